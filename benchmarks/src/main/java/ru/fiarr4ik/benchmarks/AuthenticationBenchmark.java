@@ -0,0 +1,101 @@
+package ru.fiarr4ik.benchmarks;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import ru.fiarr4ik.partservice.security.CustomAuthenticationEntryPoint;
+import ru.fiarr4ik.partservice.security.config.SecurityConfig;
+import ru.fiarr4ik.partservice.security.filter.SwaggerAuthenticationFilter;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка токена на каждом запросе к сервисам: разбор заголовка Authorization,
+ * проверка подписи HS256, срока действия и издателя в {@link SwaggerAuthenticationFilter}.
+ * Фильтр и декодер создаются так же, как в part-service; токен выпускается с теми же утверждениями, что в security-service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private static final String SECRET = "xenon-diplom-dev-secret-change-me-in-prod";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtDecoder jwtDecoder;
+    private SwaggerAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+
+    @Setup
+    public void setUp() {
+        CustomAuthenticationEntryPoint entryPoint = new CustomAuthenticationEntryPoint();
+        jwtDecoder = new SecurityConfig(entryPoint).jwtDecoder(SECRET);
+        filter = new SwaggerAuthenticationFilter(jwtDecoder, entryPoint);
+
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(
+                new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256")));
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("security-service")
+                .subject("admin")
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.DAYS))
+                .build();
+        token = encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/parts/1");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + token);
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/parts/1");
+    }
+
+    @Benchmark
+    public Object decodeToken() {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws ServletException, IOException {
+        filter.doFilter(authenticatedRequest, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public Object filterAnonymousRequest() throws ServletException, IOException {
+        filter.doFilter(anonymousRequest, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+}
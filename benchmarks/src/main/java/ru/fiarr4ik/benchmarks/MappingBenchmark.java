@@ -0,0 +1,137 @@
+package ru.fiarr4ik.benchmarks;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.PropertyMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.fiarr4ik.inventoryservice.dto.InventoryRequestDto;
+import ru.fiarr4ik.inventoryservice.dto.InventoryResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockLevelResponseDto;
+import ru.fiarr4ik.inventoryservice.entity.Inventory;
+import ru.fiarr4ik.inventoryservice.mapper.InventoryMapperImpl;
+import ru.fiarr4ik.inventoryservice.service.InventoryMappingService;
+import ru.fiarr4ik.partservice.dto.PartDto;
+import ru.fiarr4ik.partservice.entity.Part;
+import ru.fiarr4ik.partservice.mapper.PartMapperImpl;
+import ru.fiarr4ik.partservice.service.PartMapperService;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Преобразования сущностей и DTO в part-service и inventory-service.
+ * <p>Методы без суффикса вызывают сервисы отображения приложения с мапперами, сгенерированными MapStruct.
+ * Методы с суффиксом {@code ModelMapper} выполняют те же преобразования через ModelMapper с прежними
+ * настройками и служат базовой линией для сравнения.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private PartMapperService partMapperService;
+    private InventoryMappingService inventoryMappingService;
+    private ModelMapper modelMapper;
+
+    private Part part;
+    private PartDto partDto;
+    private Inventory inventory;
+    private InventoryRequestDto inventoryRequestDto;
+
+    @Setup
+    public void setUp() {
+        partMapperService = new PartMapperService(new PartMapperImpl());
+        inventoryMappingService = new InventoryMappingService(new InventoryMapperImpl());
+
+        modelMapper = new ModelMapper();
+        modelMapper.addMappings(new PropertyMap<PartDto, Part>() {
+            @Override
+            protected void configure() {
+                skip(destination.getPartId());
+            }
+        });
+
+        part = new Part();
+        part.setPartId(42L);
+        part.setName("Тонер-картридж HP");
+        part.setDescription("Картридж для лазерного принтера HP");
+        part.setCategoryId(5L);
+        part.setSupplierId(1L);
+        part.setUnitPrice(2500.0);
+
+        partDto = partMapperService.toDto(part);
+
+        inventory = new Inventory();
+        inventory.setInventoryId(7L);
+        inventory.setPartId(42L);
+        inventory.setQuantityInStock(120);
+        inventory.setLastRestockDate(new Date());
+        inventory.setVersion(3L);
+
+        inventoryRequestDto = new InventoryRequestDto();
+        inventoryRequestDto.setPartId(42L);
+        inventoryRequestDto.setQuantityInStock(120);
+    }
+
+    @Benchmark
+    public Part partDtoToEntity() {
+        return partMapperService.toModel(partDto);
+    }
+
+    @Benchmark
+    public Part partDtoToEntityModelMapper() {
+        return modelMapper.map(partDto, Part.class);
+    }
+
+    @Benchmark
+    public PartDto partEntityToDto() {
+        return partMapperService.toDto(part);
+    }
+
+    @Benchmark
+    public PartDto partEntityToDtoModelMapper() {
+        return modelMapper.map(part, PartDto.class);
+    }
+
+    @Benchmark
+    public InventoryResponseDto inventoryEntityToResponse() {
+        return inventoryMappingService.toResponseDto(inventory);
+    }
+
+    @Benchmark
+    public InventoryResponseDto inventoryEntityToResponseModelMapper() {
+        return modelMapper.map(inventory, InventoryResponseDto.class);
+    }
+
+    @Benchmark
+    public StockLevelResponseDto inventoryEntityToStockLevel() {
+        return inventoryMappingService.toStockLevelDto(inventory);
+    }
+
+    @Benchmark
+    public StockLevelResponseDto inventoryEntityToStockLevelModelMapper() {
+        return modelMapper.map(inventory, StockLevelResponseDto.class);
+    }
+
+    @Benchmark
+    public Inventory inventoryRequestToEntity() {
+        return inventoryMappingService.toEntity(inventoryRequestDto);
+    }
+
+    @Benchmark
+    public Inventory inventoryRequestToEntityModelMapper() {
+        return modelMapper.map(inventoryRequestDto, Inventory.class);
+    }
+
+}
@@ -0,0 +1,180 @@
+package ru.fiarr4ik.benchmarks;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+import ru.fiarr4ik.partservice.config.ResilienceConfig;
+import ru.fiarr4ik.partservice.dto.CategoryBatchResponseDto;
+import ru.fiarr4ik.partservice.dto.CategoryDto;
+import ru.fiarr4ik.partservice.dto.PartResponseDto;
+import ru.fiarr4ik.partservice.dto.SupplierBatchResponseDto;
+import ru.fiarr4ik.partservice.dto.SupplierDto;
+import ru.fiarr4ik.partservice.entity.Part;
+import ru.fiarr4ik.partservice.service.EntityTagService;
+import ru.fiarr4ik.partservice.service.PartEnrichmentService;
+import ru.fiarr4ik.partservice.service.ResilientCallService;
+import ru.fiarr4ik.partservice.service.ValidateSupplierService;
+import ru.fiarr4ik.partservice.service.ValidationCategoryService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Обогащение страницы запчастей категориями и поставщиками, как в {@code PartService.getParts}.
+ * <p>HTTP-клиент заменен заглушкой, которая сразу отвечает пакетом найденных категорий или поставщиков,
+ * поэтому измеряется собственная работа part-service: локальный кэш, resilience4j, сборка DTO и ETag.
+ * В режиме {@code warm} все справочники уже в кэше, в режиме {@code cold} кэш очищается перед каждым вызовом
+ * и каждый вызов делает по одному пакетному запросу к каждому сервису.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartEnrichmentBenchmark {
+
+    private static final int CATEGORY_COUNT = 20;
+    private static final int SUPPLIER_COUNT = 100;
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    @Param({"warm", "cold"})
+    private String referenceCache;
+
+    private ExecutorService remoteCallExecutor;
+    private Cache<Long, CategoryDto> categoryCache;
+    private Cache<Long, SupplierDto> supplierCache;
+    private PartEnrichmentService partEnrichmentService;
+    private EntityTagService entityTagService;
+    private List<Part> parts;
+
+    @Setup
+    public void setUp() {
+        ResilienceConfig resilienceConfig = new ResilienceConfig();
+        remoteCallExecutor = resilienceConfig.remoteCallExecutor(false);
+        ResilientCallService resilientCallService = new ResilientCallService(
+                resilienceConfig.circuitBreakerRegistry(50, Duration.ofSeconds(2), 20, Duration.ofSeconds(10)),
+                resilienceConfig.bulkheadRegistry(25, Duration.ZERO),
+                resilienceConfig.timeLimiterRegistry(Duration.ofSeconds(2)),
+                remoteCallExecutor,
+                new SimpleMeterRegistry());
+
+        categoryCache = Caffeine.newBuilder().maximumSize(10_000).build();
+        supplierCache = Caffeine.newBuilder().maximumSize(10_000).build();
+        RestTemplate restTemplate = new StubReferenceRestTemplate();
+
+        partEnrichmentService = new PartEnrichmentService(
+                new ValidationCategoryService(restTemplate, categoryCache, resilientCallService),
+                new ValidateSupplierService(restTemplate, supplierCache, resilientCallService));
+        entityTagService = new EntityTagService();
+
+        parts = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Part part = new Part();
+            part.setPartId(id);
+            part.setName("Запчасть " + id);
+            part.setDescription("Описание запчасти " + id);
+            part.setCategoryId(id % CATEGORY_COUNT + 1);
+            part.setSupplierId(id % SUPPLIER_COUNT + 1);
+            part.setUnitPrice(100.0 + id);
+            parts.add(part);
+        }
+
+        partEnrichmentService.resolve(parts);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCache() {
+        if ("cold".equals(referenceCache)) {
+            categoryCache.invalidateAll();
+            supplierCache.invalidateAll();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        remoteCallExecutor.shutdown();
+    }
+
+    /**
+     * Полный ответ на запрос страницы: справочники, DTO и ETag.
+     */
+    @Benchmark
+    public List<PartResponseDto> enrichPage() {
+        PartEnrichmentService.ResolvedParts resolved = partEnrichmentService.resolve(parts);
+        entityTagService.tagOf(resolved, null);
+        return partEnrichmentService.toResponseDtos(resolved);
+    }
+
+    /**
+     * Условный запрос, на который отвечают 304: справочники и ETag без сборки DTO.
+     */
+    @Benchmark
+    public String tagPage() {
+        return entityTagService.tagOf(partEnrichmentService.resolve(parts), null);
+    }
+
+    /**
+     * Отвечает на пакетные запросы категорий (GET с ID в параметре) и поставщиков (POST со списком ID),
+     * находя каждый запрошенный ID.
+     */
+    private static final class StubReferenceRestTemplate extends RestTemplate {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getForObject(String url, Class<T> responseType, Object... uriVariables) {
+            if (responseType != CategoryBatchResponseDto.class) {
+                throw new IllegalArgumentException("Неожиданный запрос: " + url);
+            }
+            CategoryBatchResponseDto response = new CategoryBatchResponseDto();
+            for (String id : String.valueOf(uriVariables[0]).split(",")) {
+                CategoryDto category = new CategoryDto();
+                category.setName("Категория " + id);
+                category.setDescription("Описание категории " + id);
+                response.getFound().put(Long.valueOf(id), category);
+            }
+            return (T) response;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T postForObject(String url, Object request, Class<T> responseType, Object... uriVariables) {
+            if (responseType != SupplierBatchResponseDto.class) {
+                throw new IllegalArgumentException("Неожиданный запрос: " + url);
+            }
+            SupplierBatchResponseDto response = new SupplierBatchResponseDto();
+            for (Long id : (Collection<Long>) request) {
+                SupplierDto supplier = new SupplierDto();
+                supplier.setName("Поставщик " + id);
+                supplier.setContactPerson("Контакт " + id);
+                supplier.setPhone("+7900000" + id);
+                supplier.setEmail("supplier" + id + "@example.com");
+                supplier.setAddress("Адрес " + id);
+                response.getFound().put(id, supplier);
+            }
+            return (T) response;
+        }
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package ru.fiarr4ik.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.fiarr4ik.gatewayservice.service.SwaggerDocsMerger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Слияние OpenAPI-документов пяти сервисов в шлюзе на синтетических документах заданного размера.
+ * Слияние изменяет документы на месте, поэтому перед каждым вызовом берется свежая копия.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwaggerMergeBenchmark {
+
+    private static final List<String> SERVICES = List.of(
+            "category-service", "supplier-service", "part-service", "inventory-service", "gateway-service");
+
+    @Param({"50", "500"})
+    private int pathsPerService;
+
+    private SwaggerDocsMerger merger;
+    private Map<String, Map<String, Object>> templates;
+    private Map<String, Map<String, Object>> docs;
+
+    @Setup
+    public void setUp() {
+        merger = new SwaggerDocsMerger();
+        templates = new LinkedHashMap<>();
+        for (String service : SERVICES) {
+            templates.put(service, serviceDoc(pathsPerService));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    @SuppressWarnings("unchecked")
+    public void copyDocs() {
+        docs = new LinkedHashMap<>();
+        templates.forEach((service, doc) -> docs.put(service, (Map<String, Object>) deepCopy(doc)));
+    }
+
+    @Benchmark
+    public Map<String, Object> mergeDocs() {
+        return merger.merge(docs);
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Object>> rewriteRefs() {
+        docs.forEach((service, doc) -> merger.rewriteRefs(doc, name -> service + "_" + name));
+        return docs;
+    }
+
+    /**
+     * Документ сервиса: на каждый путь — GET и POST со ссылками на схемы запроса, ответа и ошибки,
+     * на каждые два пути — схема с вложенными ссылками.
+     */
+    private static Map<String, Object> serviceDoc(int pathCount) {
+        Map<String, Object> paths = new LinkedHashMap<>();
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < pathCount; i++) {
+            String schemaName = "Dto" + (i / 2);
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("get", operation("get" + i, null, schemaName));
+            item.put("post", operation("post" + i, schemaName, schemaName));
+            paths.put("/api/resource" + i + "/{id}", item);
+
+            if (!schemas.containsKey(schemaName)) {
+                schemas.put(schemaName, schema(schemaName, i / 2));
+            }
+        }
+        schemas.put("ErrorResponseDto", Map.of("type", "object",
+                "properties", Map.of("errors", Map.of("type", "array", "items", Map.of("type", "string")))));
+
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("openapi", "3.0.1");
+        doc.put("paths", paths);
+        doc.put("components", Map.of("schemas", schemas));
+        return doc;
+    }
+
+    private static Map<String, Object> operation(String operationId, String requestSchema, String responseSchema) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        operation.put("operationId", operationId);
+        operation.put("parameters", List.of(Map.of("name", "id", "in", "path", "required", true,
+                "schema", Map.of("type", "integer", "format", "int64"))));
+        if (requestSchema != null) {
+            operation.put("requestBody", Map.of("content", Map.of("application/json",
+                    Map.of("schema", ref(requestSchema)))));
+        }
+        operation.put("responses", Map.of(
+                "200", Map.of("description", "OK", "content", Map.of("application/json",
+                        Map.of("schema", ref(responseSchema)))),
+                "400", Map.of("description", "Ошибки валидации", "content", Map.of("application/json",
+                        Map.of("schema", ref("ErrorResponseDto"))))));
+        return operation;
+    }
+
+    private static Map<String, Object> schema(String name, int index) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("id", Map.of("type", "integer", "format", "int64"));
+        properties.put("name", Map.of("type", "string", "description", "Название " + name));
+        properties.put("price", Map.of("type", "number", "format", "double"));
+        if (index > 1) {
+            properties.put("parent", ref("Dto" + (index / 4)));
+            properties.put("children", Map.of("type", "array", "items", ref("Dto" + (index / 8))));
+        }
+        return Map.of("type", "object", "properties", properties);
+    }
+
+    private static Map<String, Object> ref(String schema) {
+        return Map.of("$ref", "#/components/schemas/" + schema);
+    }
+
+    /**
+     * Копия дерева из изменяемых коллекций: так выглядит документ после разбора JSON.
+     */
+    private static Object deepCopy(Object node) {
+        if (node instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, value) -> copy.put(String.valueOf(key), deepCopy(value)));
+            return copy;
+        }
+        if (node instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(deepCopy(item)));
+            return copy;
+        }
+        return node;
+    }
+
+}
@@ -1,5 +1,7 @@
 package ru.fiarr4ik.categoryservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,42 +22,137 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.fiarr4ik.categoryservice.dto.CategoryBatchResponseDto;
 import ru.fiarr4ik.categoryservice.dto.CategoryDto;
 import ru.fiarr4ik.categoryservice.dto.ErrorResponseDto;
+import ru.fiarr4ik.categoryservice.dto.PageResponseDto;
 import ru.fiarr4ik.categoryservice.service.CategoryService;
+import ru.fiarr4ik.categoryservice.service.EntityTagService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/categories")
 @Tag(name = "Категории", description = "API для управления категориями")
-@SecurityRequirement(name = "basicAuth")
+@SecurityRequirement(name = "bearerAuth")
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final EntityTagService entityTagService;
+    private final ObjectWriter objectWriter;
 
     @Autowired
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService,
+                              EntityTagService entityTagService,
+                              ObjectMapper objectMapper) {
         this.categoryService = categoryService;
+        this.entityTagService = entityTagService;
+        this.objectWriter = objectMapper.writer();
     }
 
     @GetMapping
     @Operation(
-            summary = "Получить все категории",
-            description = "Возвращает список все категории в системе"
+            summary = "Получить страницу категорий",
+            description = "Категории упорядочены по ID. Для следующей страницы передайте nextCursor из ответа в параметре cursor"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Список категорий успешно получен",
+                    description = "Страница категорий успешно получена",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = List.class))
+                            schema = @Schema(implementation = PageResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Страница не изменилась с момента запроса, указанного в If-None-Match"
+            )
+    })
+    public ResponseEntity<PageResponseDto<CategoryDto>> getCategories(
+            @Parameter(description = "Курсор, полученный с предыдущей страницей")
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @Parameter(description = "Размер страницы, не более " + CategoryService.MAX_PAGE_SIZE)
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            WebRequest request) {
+        PageResponseDto<CategoryDto> categories = categoryService.getCategories(cursor, limit);
+        String etag = entityTagService.tagOf(categories);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(categories);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Выгрузить все категории потоком NDJSON",
+            description = "Каждая строка ответа — отдельная категория в формате JSON"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Выгрузка категорий",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = CategoryDto.class))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        StreamingResponseBody body = outputStream -> categoryService.exportCategories(category -> {
+            try {
+                outputStream.write(objectWriter.writeValueAsBytes(category));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Получить категории по набору ID.
+     *
+     * @param ids Идентификаторы категорий
+     * @return Найденные категории по ID и список отсутствующих ID
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+            summary = "Получить категории по списку ID",
+            description = "Возвращает найденные категории по их идентификаторам и список ID, для которых категории нет"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Категории получены",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryBatchResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Набор категорий не изменился с момента запроса, указанного в If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Передано больше " + CategoryService.MAX_BATCH_SIZE + " ID",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class))
             )
     })
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
-        List<CategoryDto> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<CategoryBatchResponseDto> getCategoriesByIds(
+            @Parameter(description = "ID категорий через запятую, не более " + CategoryService.MAX_BATCH_SIZE, required = true)
+            @RequestParam(name = "ids") List<Long> ids,
+            WebRequest request) {
+        CategoryBatchResponseDto categories = categoryService.getCategoriesByIds(ids);
+        String etag = entityTagService.tagOf(categories);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(categories);
     }
 
     /**
@@ -75,6 +173,10 @@ public class CategoryController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = CategoryDto.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Категория не изменилась с момента запроса, указанного в If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Категория не найдена",
@@ -84,9 +186,14 @@ public class CategoryController {
     })
     public ResponseEntity<CategoryDto> getSupplierById(
             @Parameter(description = "ID категории", required = true)
-            @PathVariable(name = "id") Long id) {
+            @PathVariable(name = "id") Long id,
+            WebRequest request) {
         CategoryDto category = categoryService.getCategoryById(id);
-        return ResponseEntity.ok(category);
+        String etag = entityTagService.tagOf(category);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(category);
     }
 
     /**
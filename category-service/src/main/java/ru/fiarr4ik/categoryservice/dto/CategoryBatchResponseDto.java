@@ -0,0 +1,28 @@
+package ru.fiarr4ik.categoryservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DTO результата пакетного получения категорий.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Результат пакетного получения категорий")
+public class CategoryBatchResponseDto {
+
+    @Schema(description = "Найденные категории по их ID")
+    private Map<Long, CategoryDto> found;
+
+    @Schema(description = "ID, для которых категории не найдены", example = "[42]")
+    private Set<Long> missingIds;
+
+}
@@ -0,0 +1,15 @@
+package ru.fiarr4ik.categoryservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Событие изменения или удаления категории.
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+
+}
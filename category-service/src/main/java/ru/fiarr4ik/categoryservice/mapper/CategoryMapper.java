@@ -0,0 +1,20 @@
+package ru.fiarr4ik.categoryservice.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import ru.fiarr4ik.categoryservice.dto.CategoryDto;
+import ru.fiarr4ik.categoryservice.entity.Category;
+
+/**
+ * Преобразования категории, генерируемые MapStruct при компиляции.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface CategoryMapper {
+
+    CategoryDto toDto(Category category);
+
+    @Mapping(target = "categoryId", ignore = true)
+    Category toEntity(CategoryDto dto);
+
+}
@@ -1,13 +1,28 @@
 package ru.fiarr4ik.categoryservice.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.fiarr4ik.categoryservice.entity.Category;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Репозиторий для работы с сущностью {@link Category}.
  */
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    List<Category> findAllByCategoryIdIn(Collection<Long> categoryIds);
+
+    List<Category> findByCategoryIdGreaterThanOrderByCategoryIdAsc(Long categoryId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Category> streamAllByOrderByCategoryIdAsc();
+
 }
@@ -4,7 +4,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "part-service", url = "http://localhost:8083")
+@FeignClient(name = "part-service")
 public interface PartClient {
 
     /**
@@ -0,0 +1,46 @@
+package ru.fiarr4ik.categoryservice.security;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Добавляет к исходящему запросу токен сервиса, если заголовок Authorization не задан явно.
+ * <p>Подключается к RestClient как {@link ClientHttpRequestInterceptor}, а к Feign-клиентам —
+ * как {@link RequestInterceptor}: Feign применяет бины этого типа ко всем клиентам.</p>
+ */
+@Component
+public class ServiceTokenInterceptor implements ClientHttpRequestInterceptor, RequestInterceptor {
+
+    private final ServiceTokenProvider serviceTokenProvider;
+
+    @Autowired
+    public ServiceTokenInterceptor(ServiceTokenProvider serviceTokenProvider) {
+        this.serviceTokenProvider = serviceTokenProvider;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            request.getHeaders().setBearerAuth(serviceTokenProvider.token());
+        }
+        return execution.execute(request, body);
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (!template.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+            template.header(HttpHeaders.AUTHORIZATION, "Bearer " + serviceTokenProvider.token());
+        }
+    }
+
+}
@@ -7,29 +7,36 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.web.AuthenticationEntryPoint;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import ru.fiarr4ik.categoryservice.security.service.CustomUserDetailsService;
+import ru.fiarr4ik.categoryservice.security.ServiceTokenProvider;
 
 import java.io.IOException;
-import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
 
-@Component
+/**
+ * Аутентификация по токену, выпущенному security-service.
+ * <p>Подпись и срок действия проверяются локально, без обращения к базе данных.
+ * Токен сервиса ({@code token_type=service}) дает полномочие {@link ServiceTokenProvider#SERVICE_AUTHORITY},
+ * пользовательский токен полномочий не дает.</p>
+ */
 public class SwaggerAuthenticationFilter extends OncePerRequestFilter {
 
-    private final CustomUserDetailsService userDetailsService;
-    private final PasswordEncoder passwordEncoder;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtDecoder jwtDecoder;
     private final AuthenticationEntryPoint authenticationEntryPoint;
 
-    public SwaggerAuthenticationFilter(CustomUserDetailsService userDetailsService,
-                                       PasswordEncoder passwordEncoder,
+    public SwaggerAuthenticationFilter(JwtDecoder jwtDecoder,
                                        AuthenticationEntryPoint authenticationEntryPoint) {
-        this.userDetailsService = userDetailsService;
-        this.passwordEncoder = passwordEncoder;
+        this.jwtDecoder = jwtDecoder;
         this.authenticationEntryPoint = authenticationEntryPoint;
     }
 
@@ -40,24 +47,14 @@ public class SwaggerAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
 
         try {
-            if (header != null && header.startsWith("Basic ")) {
-                String base64Credentials = header.substring(6);
-                String credentials = new String(Base64.getDecoder().decode(base64Credentials));
-                final String[] values = credentials.split(":", 2);
-                String username = values[0];
-                String rawPassword = values.length > 1 ? values[1] : "";
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                if (!passwordEncoder.matches(rawPassword, userDetails.getPassword())) {
-                    throw new BadCredentialsException("Неверный логин или пароль");
-                }
+            if (header != null && header.startsWith(BEARER_PREFIX)) {
+                Jwt jwt = decode(header.substring(BEARER_PREFIX.length()));
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails.getUsername(),
-                                userDetails.getPassword(),
-                                userDetails.getAuthorities());
+                                jwt.getSubject(),
+                                null,
+                                authorities(jwt));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -70,4 +67,19 @@ public class SwaggerAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    private static List<GrantedAuthority> authorities(Jwt jwt) {
+        if (ServiceTokenProvider.SERVICE_TOKEN_TYPE.equals(jwt.getClaimAsString(ServiceTokenProvider.TOKEN_TYPE_CLAIM))) {
+            return List.of(new SimpleGrantedAuthority(ServiceTokenProvider.SERVICE_AUTHORITY));
+        }
+        return Collections.emptyList();
+    }
+
+    private Jwt decode(String token) {
+        try {
+            return jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            throw new BadCredentialsException("Недействительный токен", e);
+        }
+    }
+
 }
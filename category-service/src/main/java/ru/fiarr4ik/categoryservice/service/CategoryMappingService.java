@@ -1,27 +1,27 @@
 package ru.fiarr4ik.categoryservice.service;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import ru.fiarr4ik.categoryservice.dto.CategoryDto;
 import ru.fiarr4ik.categoryservice.entity.Category;
+import ru.fiarr4ik.categoryservice.mapper.CategoryMapper;
 
 @Service
 public class CategoryMappingService {
 
-    private final ModelMapper modelMapper;
+    private final CategoryMapper categoryMapper;
 
     @Autowired
-    public CategoryMappingService(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+    public CategoryMappingService(CategoryMapper categoryMapper) {
+        this.categoryMapper = categoryMapper;
     }
 
     public CategoryDto toDto(Category category) {
-        return modelMapper.map(category, CategoryDto.class);
+        return categoryMapper.toDto(category);
     }
 
     public Category toEntity(CategoryDto dto) {
-        return modelMapper.map(dto, Category.class);
+        return categoryMapper.toEntity(dto);
     }
 
 }
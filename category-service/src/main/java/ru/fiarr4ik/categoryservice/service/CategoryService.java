@@ -1,29 +1,59 @@
 package ru.fiarr4ik.categoryservice.service;
 
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.fiarr4ik.categoryservice.dto.CategoryBatchResponseDto;
 import ru.fiarr4ik.categoryservice.dto.CategoryDto;
+import ru.fiarr4ik.categoryservice.dto.PageResponseDto;
 import ru.fiarr4ik.categoryservice.entity.Category;
+import ru.fiarr4ik.categoryservice.event.CategoryChangedEvent;
+import ru.fiarr4ik.categoryservice.exception.BatchTooLargeException;
 import ru.fiarr4ik.categoryservice.exception.CategoryNotFoundException;
 import ru.fiarr4ik.categoryservice.repository.CategoryRepository;
 import ru.fiarr4ik.categoryservice.rest.PartClient;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class CategoryService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final CategoryRepository categoryRepository;
     private final CategoryMappingService categoryMappingService;
     private final PartClient partClient;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResilientCallService resilientCallService;
 
     @Autowired
-    public CategoryService(CategoryRepository categoryRepository, CategoryMappingService categoryMappingService, PartClient partClient) {
+    public CategoryService(CategoryRepository categoryRepository,
+                           CategoryMappingService categoryMappingService,
+                           PartClient partClient,
+                           EntityManager entityManager,
+                           ApplicationEventPublisher eventPublisher,
+                           ResilientCallService resilientCallService) {
         this.categoryRepository = categoryRepository;
         this.categoryMappingService = categoryMappingService;
         this.partClient = partClient;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.resilientCallService = resilientCallService;
     }
 
     public CategoryDto createCategory(CategoryDto categoryDto) {
@@ -41,10 +71,72 @@ public class CategoryService {
         }
     }
 
-    public List<CategoryDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
+    /**
+     * Получает категории по набору идентификаторов одним запросом к базе.
+     *
+     * @param ids ID категорий
+     * @return найденные категории по ID и список ID, для которых категории нет
+     * @throws BatchTooLargeException если различных ID больше {@link #MAX_BATCH_SIZE}
+     */
+    public CategoryBatchResponseDto getCategoriesByIds(Collection<Long> ids) {
+        Set<Long> requestedIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new BatchTooLargeException("За один запрос можно получить не более " + MAX_BATCH_SIZE
+                    + " категорий, передано " + requestedIds.size());
+        }
+
+        Map<Long, CategoryDto> found = new LinkedHashMap<>();
+        if (!requestedIds.isEmpty()) {
+            for (Category category : categoryRepository.findAllByCategoryIdIn(requestedIds)) {
+                found.put(category.getCategoryId(), categoryMappingService.toDto(category));
+            }
+        }
+
+        Set<Long> missingIds = requestedIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new CategoryBatchResponseDto(found, missingIds);
+    }
+
+    /**
+     * Возвращает страницу категорий, упорядоченных по ID (keyset-пагинация).
+     *
+     * @param cursor ID последней категории предыдущей страницы; null для первой страницы
+     * @param limit  размер страницы, ограничивается {@link #MAX_PAGE_SIZE}
+     * @return страница категорий и курсор следующей страницы
+     */
+    public PageResponseDto<CategoryDto> getCategories(Long cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Category> categories = categoryRepository.findByCategoryIdGreaterThanOrderByCategoryIdAsc(
+                cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+
+        Long nextCursor = null;
+        if (categories.size() > pageSize) {
+            categories = categories.subList(0, pageSize);
+            nextCursor = categories.get(pageSize - 1).getCategoryId();
+        }
+
+        List<CategoryDto> items = categories.stream()
                 .map(categoryMappingService::toDto)
                 .collect(Collectors.toList());
+        return new PageResponseDto<>(items, nextCursor);
+    }
+
+    /**
+     * Выгружает все категории, читая их курсором из базы.
+     *
+     * @param consumer получатель категорий в порядке возрастания ID
+     */
+    @Transactional(readOnly = true)
+    public void exportCategories(Consumer<CategoryDto> consumer) {
+        try (Stream<Category> categories = categoryRepository.streamAllByOrderByCategoryIdAsc()) {
+            categories.forEach(category -> {
+                entityManager.detach(category);
+                consumer.accept(categoryMappingService.toDto(category));
+            });
+        }
     }
 
     public CategoryDto updateCategory(Long id, CategoryDto categoryDto) {
@@ -54,6 +146,7 @@ public class CategoryService {
             categoryToUpdate.setName(categoryDto.getName());
             categoryToUpdate.setDescription(categoryDto.getDescription());
             Category savedCategory = categoryRepository.save(categoryToUpdate);
+            eventPublisher.publishEvent(new CategoryChangedEvent(id));
             return categoryMappingService.toDto(savedCategory);
         } else {
             throw new CategoryNotFoundException();
@@ -72,11 +165,12 @@ public class CategoryService {
             throw new CategoryNotFoundException();
         }
 
-        if (partClient.existsByCategory(id)) {
+        if (resilientCallService.call("part-service", () -> partClient.existsByCategory(id))) {
             throw new IllegalStateException("Категория используется в запчастях и не может быть удалена");
         }
 
         categoryRepository.delete(category.get());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
 }
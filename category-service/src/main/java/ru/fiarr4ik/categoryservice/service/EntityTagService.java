@@ -0,0 +1,60 @@
+package ru.fiarr4ik.categoryservice.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import ru.fiarr4ik.categoryservice.dto.CategoryBatchResponseDto;
+import ru.fiarr4ik.categoryservice.dto.CategoryDto;
+import ru.fiarr4ik.categoryservice.dto.PageResponseDto;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Вычисление строгих ETag для ответов с категориями.
+ * <p>Тег строится как MD5 от значений полей в порядке их вывода в ответе, поэтому меняется
+ * вместе с телом ответа и совпадает на всех экземплярах сервиса. Сериализация в JSON для этого не нужна.</p>
+ */
+@Service
+public class EntityTagService {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final char NULL_VALUE = '\u0000';
+
+    public String tagOf(CategoryDto category) {
+        StringBuilder fields = new StringBuilder();
+        appendCategory(fields, category);
+        return toTag(fields);
+    }
+
+    public String tagOf(PageResponseDto<CategoryDto> page) {
+        StringBuilder fields = new StringBuilder();
+        page.getItems().forEach(category -> appendCategory(fields, category));
+        append(fields, page.getNextCursor());
+        return toTag(fields);
+    }
+
+    public String tagOf(CategoryBatchResponseDto batch) {
+        StringBuilder fields = new StringBuilder();
+        append(fields, batch.getFound().size());
+        batch.getFound().forEach((id, category) -> {
+            append(fields, id);
+            appendCategory(fields, category);
+        });
+        batch.getMissingIds().forEach(id -> append(fields, id));
+        return toTag(fields);
+    }
+
+    private static void appendCategory(StringBuilder fields, CategoryDto category) {
+        append(fields, category.getName(), category.getDescription());
+    }
+
+    private static void append(StringBuilder fields, Object... values) {
+        for (Object value : values) {
+            fields.append(value == null ? NULL_VALUE : value).append(SEPARATOR);
+        }
+    }
+
+    private static String toTag(StringBuilder fields) {
+        return "\"" + DigestUtils.md5DigestAsHex(fields.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+}
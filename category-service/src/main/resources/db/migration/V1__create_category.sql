@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS category
+(
+    category_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255)
+);
@@ -0,0 +1,3 @@
+CREATE SEQUENCE IF NOT EXISTS category_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('category_seq', COALESCE((SELECT MAX(category_id) FROM category), 0) + 50, false);
+ALTER TABLE category ALTER COLUMN category_id DROP IDENTITY IF EXISTS;
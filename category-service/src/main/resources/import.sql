@@ -1,20 +1,22 @@
-INSERT INTO category (name, description) VALUES ('Принтеры', 'Ремонт и обслуживание принтеров');
-INSERT INTO category (name, description) VALUES ('Сканеры', 'Ремонт сканеров и МФУ');
-INSERT INTO category (name, description) VALUES ('Копировальные аппараты', 'Обслуживание копиров');
-INSERT INTO category (name, description) VALUES ('Факсы', 'Ремонт факсимильных аппаратов');
-INSERT INTO category (name, description) VALUES ('Картриджи', 'Заправка и восстановление картриджей');
-INSERT INTO category (name, description) VALUES ('Компьютеры', 'Ремонт ПК');
-INSERT INTO category (name, description) VALUES ('Ноутбуки', 'Диагностика и ремонт ноутбуков');
-INSERT INTO category (name, description) VALUES ('Мониторы', 'Ремонт мониторов');
-INSERT INTO category (name, description) VALUES ('Сетевое оборудование', 'Роутеры, свитчи и пр.');
-INSERT INTO category (name, description) VALUES ('Программное обеспечение', 'Установка и обновление ПО');
-INSERT INTO category (name, description) VALUES ('Периферия', 'Клавиатуры, мыши и пр.');
-INSERT INTO category (name, description) VALUES ('Запасные части', 'Комплектующие для оргтехники');
-INSERT INTO category (name, description) VALUES ('ИБП', 'Источники бесперебойного питания');
-INSERT INTO category (name, description) VALUES ('Проекторы', 'Ремонт проекторов');
-INSERT INTO category (name, description) VALUES ('Жесткие диски', 'HDD и SSD');
-INSERT INTO category (name, description) VALUES ('Материнские платы', 'Ремонт и замена');
-INSERT INTO category (name, description) VALUES ('Кабели и коннекторы', 'Сетевые и другие кабели');
-INSERT INTO category (name, description) VALUES ('Аудио техника', 'Ремонт акустики');
-INSERT INTO category (name, description) VALUES ('Гаджеты', 'Планшеты и смартфоны');
-INSERT INTO category (name, description) VALUES ('Диагностика', 'Полная диагностика устройств');
+INSERT INTO category (category_id, name, description)
+VALUES (1, 'Принтеры', 'Ремонт и обслуживание принтеров'),
+       (2, 'Сканеры', 'Ремонт сканеров и МФУ'),
+       (3, 'Копировальные аппараты', 'Обслуживание копиров'),
+       (4, 'Факсы', 'Ремонт факсимильных аппаратов'),
+       (5, 'Картриджи', 'Заправка и восстановление картриджей'),
+       (6, 'Компьютеры', 'Ремонт ПК'),
+       (7, 'Ноутбуки', 'Диагностика и ремонт ноутбуков'),
+       (8, 'Мониторы', 'Ремонт мониторов'),
+       (9, 'Сетевое оборудование', 'Роутеры, свитчи и пр.'),
+       (10, 'Программное обеспечение', 'Установка и обновление ПО'),
+       (11, 'Периферия', 'Клавиатуры, мыши и пр.'),
+       (12, 'Запасные части', 'Комплектующие для оргтехники'),
+       (13, 'ИБП', 'Источники бесперебойного питания'),
+       (14, 'Проекторы', 'Ремонт проекторов'),
+       (15, 'Жесткие диски', 'HDD и SSD'),
+       (16, 'Материнские платы', 'Ремонт и замена'),
+       (17, 'Кабели и коннекторы', 'Сетевые и другие кабели'),
+       (18, 'Аудио техника', 'Ремонт акустики'),
+       (19, 'Гаджеты', 'Планшеты и смартфоны'),
+       (20, 'Диагностика', 'Полная диагностика устройств');
+SELECT setval('category_seq', (SELECT MAX(category_id) FROM category) + 50, false);
@@ -0,0 +1,98 @@
+package ru.fiarr4ik.gatewayservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Настройки кэша GET-ответов в шлюзе.
+ */
+@ConfigurationProperties("gateway.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * Включен ли кэш.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Суммарный объем тел ответов в кэше, байт.
+     */
+    private long maxSizeBytes = 64L * 1024 * 1024;
+
+    /**
+     * Ответы больше этого размера не кэшируются, байт.
+     */
+    private int maxEntrySizeBytes = 1024 * 1024;
+
+    /**
+     * Кэшируемые префиксы путей и время жизни ответов для каждого из них.
+     * Запись (POST/PUT/PATCH/DELETE) под префиксом сбрасывает все его ответы.
+     */
+    private Map<String, Duration> routes = new LinkedHashMap<>();
+
+    /**
+     * Префиксы, ответы которых строятся из данных другого префикса: запись под ключом сбрасывает
+     * и ответы перечисленных префиксов. Например, страницы запчастей содержат категории и поставщиков.
+     */
+    private Map<String, List<String>> dependencies = new LinkedHashMap<>();
+
+    /**
+     * POST-запросы, которые только читают данные (пакетное получение по ID) и не сбрасывают кэш.
+     */
+    private Set<String> readOnlyPosts = new LinkedHashSet<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    public void setMaxSizeBytes(long maxSizeBytes) {
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    public int getMaxEntrySizeBytes() {
+        return maxEntrySizeBytes;
+    }
+
+    public void setMaxEntrySizeBytes(int maxEntrySizeBytes) {
+        this.maxEntrySizeBytes = maxEntrySizeBytes;
+    }
+
+    public Map<String, Duration> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Duration> routes) {
+        this.routes = routes;
+    }
+
+    public Map<String, List<String>> getDependencies() {
+        return dependencies;
+    }
+
+    public void setDependencies(Map<String, List<String>> dependencies) {
+        this.dependencies = dependencies;
+    }
+
+    public Set<String> getReadOnlyPosts() {
+        return readOnlyPosts;
+    }
+
+    public void setReadOnlyPosts(Set<String> readOnlyPosts) {
+        this.readOnlyPosts = readOnlyPosts;
+    }
+
+}
@@ -0,0 +1,9 @@
+package ru.fiarr4ik.gatewayservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SwaggerDocsProperties.class)
+public class SwaggerDocsConfig {
+}
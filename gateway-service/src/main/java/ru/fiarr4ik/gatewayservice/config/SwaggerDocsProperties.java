@@ -0,0 +1,60 @@
+package ru.fiarr4ik.gatewayservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки агрегированной OpenAPI-документации шлюза.
+ */
+@ConfigurationProperties("gateway.swagger-docs")
+public class SwaggerDocsProperties {
+
+    /**
+     * Сервисы, документация которых входит в агрегированный документ, в порядке их следования в нем.
+     */
+    private List<String> services = new ArrayList<>(List.of(
+            "category-service",
+            "supplier-service",
+            "part-service",
+            "inventory-service",
+            "gateway-service"));
+
+    /**
+     * Период принудительного пересбора документа. Кроме того, документ пересобирается при изменении
+     * состава экземпляров сервисов в реестре.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Время ожидания документации одного сервиса.
+     */
+    private Duration fetchTimeout = Duration.ofSeconds(5);
+
+    public List<String> getServices() {
+        return services;
+    }
+
+    public void setServices(List<String> services) {
+        this.services = services;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getFetchTimeout() {
+        return fetchTimeout;
+    }
+
+    public void setFetchTimeout(Duration fetchTimeout) {
+        this.fetchTimeout = fetchTimeout;
+    }
+
+}
@@ -0,0 +1,24 @@
+package ru.fiarr4ik.gatewayservice.filter;
+
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Закэшированный ответ сервиса.
+ *
+ * @param headers      заголовки ответа, включая ETag и Last-Modified
+ * @param body         тело ответа
+ * @param etag         значение ETag
+ * @param lastModified время последнего изменения с точностью до секунды
+ * @param storedAt     момент помещения в кэш
+ * @param ttl          время жизни записи
+ */
+public record CachedResponse(HttpHeaders headers,
+                             byte[] body,
+                             String etag,
+                             Instant lastModified,
+                             Instant storedAt,
+                             Duration ttl) {
+}
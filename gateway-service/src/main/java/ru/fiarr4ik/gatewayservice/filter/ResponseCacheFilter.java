@@ -0,0 +1,387 @@
+package ru.fiarr4ik.gatewayservice.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import ru.fiarr4ik.gatewayservice.config.ResponseCacheProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Кэш GET-ответов сервисов каталога на уровне шлюза.
+ * <p>Кэшируются только ответы 200 в JSON под префиксами из {@code gateway.response-cache.routes}.
+ * Каждой записи назначаются ETag и Last-Modified, поэтому повторный запрос с If-None-Match или
+ * If-Modified-Since получает 304 без тела. Учитываются директивы Cache-Control запроса и ответа.</p>
+ * <p>API каталога отдает всем пользователям одни и те же данные, поэтому запись общая для всех, а ключ —
+ * только путь с параметрами. Кэш участвует лишь в запросах с действительным токеном: шлюз проверяет его
+ * подпись и срок так же, как сервисы, а запросы без токена или с недействительным токеном уходят в сервис
+ * мимо кэша. Запись живет не дольше токена, с которым ответ был получен.</p>
+ * <p>Запись под префиксом сбрасывает ответы этого префикса и зависящих от него префиксов из
+ * {@code gateway.response-cache.dependencies}. POST-запросы из {@code gateway.response-cache.read-only-posts}
+ * только читают данные и кэш не сбрасывают.</p>
+ * <p>Каждый сброс увеличивает номер поколения префикса. GET запоминает поколение в начале запроса, и ответ,
+ * во время получения которого префикс был сброшен, в кэш не попадает: иначе запрос, начатый до записи
+ * и завершившийся после нее, вернул бы в кэш прежние данные на весь срок жизни записи.</p>
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final Set<HttpMethod> WRITE_METHODS =
+            Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            HttpHeaders.CONNECTION, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONTENT_LENGTH,
+            "Keep-Alive", HttpHeaders.SET_COOKIE);
+
+    private final Cache<String, CachedResponse> responseCache;
+    private final ResponseCacheProperties properties;
+    private final JwtDecoder jwtDecoder;
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ResponseCacheFilter(Cache<String, CachedResponse> responseCache,
+                               ResponseCacheProperties properties,
+                               JwtDecoder jwtDecoder) {
+        this.responseCache = responseCache;
+        this.properties = properties;
+        this.jwtDecoder = jwtDecoder;
+    }
+
+    /**
+     * Фильтр должен выполняться раньше {@link NettyWriteResponseFilter}, чтобы перехватить тело ответа,
+     * и раньше фильтров маршрута, переписывающих путь.
+     */
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        Map.Entry<String, Duration> route = findRoute(path);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        if (WRITE_METHODS.contains(request.getMethod()) && !isReadOnlyPost(request.getMethod(), path)) {
+            invalidate(route.getKey());
+            return chain.filter(exchange)
+                    .doFinally(signal -> invalidate(route.getKey()));
+        }
+
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        String requestCacheControl = request.getHeaders().getCacheControl();
+        if (hasDirective(requestCacheControl, "no-store")) {
+            return chain.filter(exchange);
+        }
+
+        Jwt token = authenticate(request.getHeaders());
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request);
+        boolean revalidate = hasDirective(requestCacheControl, "no-cache")
+                || hasDirective(requestCacheControl, "max-age=0");
+        if (!revalidate) {
+            CachedResponse cached = responseCache.getIfPresent(key);
+            if (cached != null) {
+                return writeCached(exchange, cached);
+            }
+        }
+
+        exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        return chain.filter(exchange.mutate()
+                .response(new CachingResponseDecorator(exchange.getResponse(), key, route.getKey(),
+                        generation(route.getKey()).get(), route.getValue(), token.getExpiresAt()))
+                .build());
+    }
+
+    private Map.Entry<String, Duration> findRoute(String path) {
+        Map.Entry<String, Duration> match = null;
+        for (Map.Entry<String, Duration> route : properties.getRoutes().entrySet()) {
+            String prefix = route.getKey();
+            boolean matches = path.equals(prefix) || path.startsWith(prefix + "/");
+            if (matches && (match == null || prefix.length() > match.getKey().length())) {
+                match = route;
+            }
+        }
+        return match;
+    }
+
+    private boolean isReadOnlyPost(HttpMethod method, String path) {
+        return HttpMethod.POST.equals(method) && properties.getReadOnlyPosts().contains(path);
+    }
+
+    /**
+     * Токен запроса, если он подписан security-service и не истек; иначе null.
+     */
+    private Jwt authenticate(HttpHeaders headers) {
+        String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        try {
+            return jwtDecoder.decode(authorization.substring(BEARER_PREFIX.length()));
+        } catch (JwtException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ключ — путь с параметрами запроса. Ответы не зависят от пользователя, поэтому токен в ключ не входит.
+     */
+    private String cacheKey(ServerHttpRequest request) {
+        String path = request.getPath().value();
+        String query = request.getURI().getRawQuery();
+        return query == null ? path : path + "?" + query;
+    }
+
+    private AtomicLong generation(String prefix) {
+        return generations.computeIfAbsent(prefix, ignored -> new AtomicLong());
+    }
+
+    private void invalidate(String prefix) {
+        removeByPrefix(prefix);
+        properties.getDependencies().getOrDefault(prefix, List.of()).forEach(this::removeByPrefix);
+    }
+
+    /**
+     * Поколение увеличивается до удаления записей: ответ, сохраненный после проверки поколения,
+     * будет удален здесь же, а сохраненный позже увидит новое поколение и удалит себя сам.
+     */
+    private void removeByPrefix(String prefix) {
+        generation(prefix).incrementAndGet();
+        responseCache.asMap().keySet().removeIf(key -> key.equals(prefix)
+                || key.startsWith(prefix + "/")
+                || key.startsWith(prefix + "?"));
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.addAll(cached.headers());
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        headers.set(HttpHeaders.AGE, String.valueOf(Duration.between(cached.storedAt(), Instant.now()).toSeconds()));
+
+        if (isNotModified(request.getHeaders(), cached)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private boolean isNotModified(HttpHeaders requestHeaders, CachedResponse cached) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String etag = stripWeak(cached.etag());
+            return ifNoneMatch.stream()
+                    .anyMatch(candidate -> "*".equals(candidate) || stripWeak(candidate).equals(etag));
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince >= 0 && cached.lastModified().toEpochMilli() <= ifModifiedSince;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean hasDirective(String cacheControl, String directive) {
+        if (cacheControl == null) {
+            return false;
+        }
+        for (String part : cacheControl.split(",")) {
+            if (part.trim().equalsIgnoreCase(directive)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Время жизни с учетом max-age/s-maxage ответа; null, если ответ кэшировать нельзя.
+     */
+    private static Duration effectiveTtl(HttpHeaders headers, Duration routeTtl) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return routeTtl;
+        }
+        Duration ttl = routeTtl;
+        for (String part : cacheControl.split(",")) {
+            String directive = part.trim().toLowerCase();
+            if (directive.equals("no-store") || directive.equals("no-cache") || directive.equals("private")) {
+                return null;
+            }
+            if (directive.startsWith("max-age=") || directive.startsWith("s-maxage=")) {
+                try {
+                    long seconds = Long.parseLong(directive.substring(directive.indexOf('=') + 1));
+                    Duration maxAge = Duration.ofSeconds(seconds);
+                    if (maxAge.compareTo(ttl) < 0) {
+                        ttl = maxAge;
+                    }
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return ttl.isZero() ? null : ttl;
+    }
+
+    /**
+     * Перехватывает тело успешного JSON-ответа, дописывает ETag/Last-Modified и сохраняет его в кэш.
+     * Потоковые и прочие ответы проходят без изменений.
+     */
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final String prefix;
+        private final long generation;
+        private final Duration routeTtl;
+        private final Instant tokenExpiresAt;
+
+        CachingResponseDecorator(ServerHttpResponse delegate, String key, String prefix, long generation,
+                                 Duration routeTtl, Instant tokenExpiresAt) {
+            super(delegate);
+            this.key = key;
+            this.prefix = prefix;
+            this.generation = generation;
+            this.routeTtl = routeTtl;
+            this.tokenExpiresAt = tokenExpiresAt;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            Duration ttl = isCacheable(getStatusCode(), headers) ? capToToken(effectiveTtl(headers, routeTtl)) : null;
+            if (ttl == null) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+
+                        if (bytes.length <= properties.getMaxEntrySizeBytes()) {
+                            store(headers, bytes, ttl);
+                        }
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        private boolean isCacheable(HttpStatusCode status, HttpHeaders headers) {
+            MediaType contentType = headers.getContentType();
+            return HttpStatus.OK.equals(status)
+                    && contentType != null
+                    && MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    && headers.getVary().stream().noneMatch(
+                            vary -> vary.equals("*") || vary.equalsIgnoreCase(HttpHeaders.AUTHORIZATION));
+        }
+
+        /**
+         * Ограничивает время жизни записи сроком действия токена, с которым получен ответ.
+         */
+        private Duration capToToken(Duration ttl) {
+            if (ttl == null || tokenExpiresAt == null) {
+                return ttl;
+            }
+            Duration untilExpiry = Duration.between(Instant.now(), tokenExpiresAt).truncatedTo(ChronoUnit.SECONDS);
+            if (!untilExpiry.isPositive()) {
+                return null;
+            }
+            return untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+        }
+
+        private void store(HttpHeaders headers, byte[] bytes, Duration ttl) {
+            Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            if (headers.getETag() == null) {
+                headers.setETag("\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+            }
+            if (headers.getLastModified() < 0) {
+                headers.setLastModified(now);
+            }
+            if (headers.getCacheControl() == null) {
+                headers.setCacheControl(CacheControl.maxAge(ttl));
+            }
+
+            HttpHeaders cachedHeaders = new HttpHeaders();
+            headers.forEach((name, values) -> {
+                if (HOP_BY_HOP_HEADERS.stream().noneMatch(name::equalsIgnoreCase)
+                        && !CACHE_STATUS_HEADER.equalsIgnoreCase(name)) {
+                    cachedHeaders.put(name, List.copyOf(values));
+                }
+            });
+
+            if (isStale()) {
+                return;
+            }
+            CachedResponse entry = new CachedResponse(
+                    cachedHeaders,
+                    bytes,
+                    headers.getETag(),
+                    Instant.ofEpochMilli(headers.getLastModified()),
+                    now,
+                    ttl);
+            responseCache.put(key, entry);
+            if (isStale()) {
+                responseCache.asMap().remove(key, entry);
+            }
+        }
+
+        /**
+         * Префикс сброшен после начала запроса, и ответ может содержать данные до записи.
+         */
+        private boolean isStale() {
+            return generation(prefix).get() != generation;
+        }
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package ru.fiarr4ik.gatewayservice.service;
+
+import java.time.Instant;
+
+/**
+ * Сериализованный агрегированный OpenAPI-документ.
+ *
+ * @param json         документ в JSON
+ * @param gzip         тот же документ, сжатый gzip
+ * @param etag         строгий ETag несжатого представления
+ * @param lastModified момент, когда документ в последний раз изменился
+ */
+public record AggregatedApiDocs(byte[] json, byte[] gzip, String etag, Instant lastModified) {
+
+    /**
+     * ETag сжатого представления. Строгий ETag различает представления, поэтому у gzip-варианта он свой.
+     */
+    public String gzipEtag() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+}
@@ -0,0 +1,226 @@
+package ru.fiarr4ik.gatewayservice.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.InstanceInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.netflix.eureka.EurekaServiceInstance;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.fiarr4ik.gatewayservice.config.SwaggerDocsProperties;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Агрегированная OpenAPI-документация сервисов, собранная заранее.
+ * <p>Документ собирается один раз и хранится уже сериализованным в JSON и gzip, поэтому запрос к
+ * {@code /swagger} не обращается к сервисам и не повторяет слияние. Документ пересобирается, когда
+ * в реестре меняется набор экземпляров одного из сервисов, и раз в {@code gateway.swagger-docs.refresh-interval}.
+ * Одновременные запросы на пересборку объединяются в одну.</p>
+ * <p>Если сервис не ответил при пересборке, в документ попадает последняя полученная от него документация.</p>
+ */
+@Service
+public class SwaggerDocsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SwaggerDocsCache.class);
+
+    private static final TypeReference<Map<String, Object>> DOC_TYPE = new TypeReference<>() {};
+
+    private final WebClient webClient;
+    private final SwaggerDocsMerger swaggerDocsMerger;
+    private final ObjectMapper objectMapper;
+    private final DiscoveryClient discoveryClient;
+    private final SwaggerDocsProperties properties;
+
+    private final AtomicReference<AggregatedApiDocs> current = new AtomicReference<>();
+    private final AtomicReference<Mono<AggregatedApiDocs>> inFlight = new AtomicReference<>();
+    private final Map<String, byte[]> lastServiceDocs = new ConcurrentHashMap<>();
+    private volatile Map<String, Set<String>> knownInstances = Map.of();
+    private Disposable periodicRefresh;
+
+    public SwaggerDocsCache(WebClient.Builder webClientBuilder,
+                            SwaggerDocsMerger swaggerDocsMerger,
+                            ObjectMapper objectMapper,
+                            DiscoveryClient discoveryClient,
+                            SwaggerDocsProperties properties) {
+        this.webClient = webClientBuilder.build();
+        this.swaggerDocsMerger = swaggerDocsMerger;
+        this.objectMapper = objectMapper;
+        this.discoveryClient = discoveryClient;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void startPeriodicRefresh() {
+        periodicRefresh = Flux.interval(properties.getRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(e -> {
+                    log.warn("Не удалось пересобрать агрегированную документацию: {}", e.getMessage());
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stopPeriodicRefresh() {
+        if (periodicRefresh != null) {
+            periodicRefresh.dispose();
+        }
+    }
+
+    /**
+     * Текущий документ; если документ еще не собирался, собирает его.
+     */
+    public Mono<AggregatedApiDocs> get() {
+        AggregatedApiDocs docs = current.get();
+        return docs != null ? Mono.just(docs) : refresh();
+    }
+
+    /**
+     * Пересобирает документ. Пока идет пересборка, {@link #get()} отдает предыдущий документ,
+     * а повторные вызовы получают результат уже идущей пересборки.
+     */
+    public Mono<AggregatedApiDocs> refresh() {
+        while (true) {
+            Mono<AggregatedApiDocs> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            Mono<AggregatedApiDocs> load = load()
+                    .doOnNext(current::set)
+                    .doFinally(signal -> inFlight.set(null))
+                    .cache();
+            if (inFlight.compareAndSet(null, load)) {
+                return load;
+            }
+        }
+    }
+
+    /**
+     * Клиент реестра публикует событие после каждого обновления локальной копии реестра.
+     * Документ пересобирается, только если набор экземпляров сервисов изменился.
+     */
+    @EventListener(HeartbeatEvent.class)
+    public void onRegistryRefreshed() {
+        Map<String, Set<String>> instances = instancesOfServices();
+        if (instances.equals(knownInstances)) {
+            return;
+        }
+        knownInstances = instances;
+        refresh().subscribe(
+                docs -> log.info("Агрегированная документация пересобрана после изменения реестра, ETag {}", docs.etag()),
+                e -> log.warn("Не удалось пересобрать агрегированную документацию: {}", e.getMessage()));
+    }
+
+    private Map<String, Set<String>> instancesOfServices() {
+        Map<String, Set<String>> instances = new LinkedHashMap<>();
+        for (String service : properties.getServices()) {
+            Set<String> ids = new TreeSet<>();
+            for (ServiceInstance instance : discoveryClient.getInstances(service)) {
+                ids.add(instanceKey(instance));
+            }
+            instances.put(service, ids);
+        }
+        return instances;
+    }
+
+    /**
+     * Перезапуск экземпляра на том же адресе меняет только отметку регистрации в Eureka, поэтому она входит в ключ.
+     */
+    private static String instanceKey(ServiceInstance instance) {
+        String key = instance.getInstanceId() + "@" + instance.getUri();
+        if (instance instanceof EurekaServiceInstance eurekaInstance) {
+            InstanceInfo info = eurekaInstance.getInstanceInfo();
+            key += "#" + info.getLastDirtyTimestamp();
+        }
+        return key;
+    }
+
+    private Mono<AggregatedApiDocs> load() {
+        return Flux.fromIterable(properties.getServices())
+                .flatMapSequential(service -> fetchServiceDocs(service)
+                        .map(doc -> Map.entry(service, doc)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new)
+                .map(docs -> serialize(swaggerDocsMerger.merge(docs)));
+    }
+
+    /**
+     * Документация сервиса разбирается заново при каждой сборке: слияние изменяет документы на месте.
+     */
+    private Mono<Map<String, Object>> fetchServiceDocs(String serviceName) {
+        return webClient.get()
+                .uri("http://" + serviceName + "/v3/api-docs")
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(properties.getFetchTimeout())
+                .map(body -> {
+                    Map<String, Object> doc = parse(body);
+                    lastServiceDocs.put(serviceName, body);
+                    return doc;
+                })
+                .onErrorResume(e -> {
+                    log.warn("Ошибка при получении swagger для сервиса {}: {}", serviceName, e.getMessage());
+                    return Mono.justOrEmpty(lastServiceDocs.get(serviceName)).map(this::parse);
+                })
+                .defaultIfEmpty(Collections.emptyMap());
+    }
+
+    private Map<String, Object> parse(byte[] body) {
+        try {
+            return objectMapper.readValue(body, DOC_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Если содержимое не изменилось, остается прежний документ вместе с его Last-Modified.
+     */
+    private AggregatedApiDocs serialize(Map<String, Object> merged) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(merged);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            AggregatedApiDocs previous = current.get();
+            if (previous != null && previous.etag().equals(etag)) {
+                return previous;
+            }
+            return new AggregatedApiDocs(json, gzip(json), etag, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+
+}
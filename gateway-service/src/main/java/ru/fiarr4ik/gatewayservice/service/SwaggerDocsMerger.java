@@ -0,0 +1,117 @@
+package ru.fiarr4ik.gatewayservice.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Слияние OpenAPI-документов сервисов в один документ шлюза.
+ */
+@Component
+public class SwaggerDocsMerger {
+
+    /**
+     * Объединяет документы сервисов в один: пути получают префикс с именем сервиса,
+     * схемы и ссылки на них — префикс {@code <сервис>_}, чтобы одноименные схемы разных сервисов не конфликтовали.
+     * Документы сервисов изменяются на месте.
+     *
+     * @param docs документы OpenAPI по именам сервисов; пустые документы пропускаются
+     * @return агрегированный документ
+     */
+    @SuppressWarnings("checkstyle:RegexpSingleline")
+    public Map<String, Object> merge(Map<String, Map<String, Object>> docs) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("openapi", "3.0.1");
+        result.put("info", Map.of(
+                "title", "Агрегированный API-шлюз",
+                "version", "1.0.0",
+                "description", """
+        Данный API-шлюз обеспечивает интеграцию и агрегацию Swagger-документации всех микросервисов,
+        реализующих функциональность по разработке, администрированию и защите базы данных
+        для учета запасных частей и комплектующих на примере ООО «Ксенон +».
+
+        Цель проекта — создание единой точке доступа к API различных сервисов, что упрощает взаимодействие
+        и повышает эффективность администрирования данных, обеспечивая надёжность и безопасность работы с информацией.
+        
+        В рамках дипломной работы были реализованы механизмы интеграции, агрегации и унификации
+        описания REST API, а также реализованы меры по защите и контролю доступа.
+        """,
+                "contact", Map.of(
+                        "name", "Дементьев Денис Витальевич",
+                        "email", "fiarr4ikdev@gmail.com",
+                        "url", "https://fiarr4ikdev.github.io/"
+                ),
+                "license", Map.of(
+                        "name", "Apache 2.0",
+                        "url", "http://springdoc.org"
+                )
+        ));
+
+        result.put("paths", new LinkedHashMap<>());
+        result.put("components", Map.of("schemas", new LinkedHashMap<>()));
+
+        Map<String, Object> resultPaths = (Map<String, Object>) result.get("paths");
+        Map<String, Object> resultSchemas = (Map<String, Object>) ((Map<String, Object>) result.get("components")).get("schemas");
+
+        for (Map.Entry<String, Map<String, Object>> entry : docs.entrySet()) {
+            String service = entry.getKey();
+            Map<String, Object> doc = entry.getValue();
+            if (doc == null || doc.isEmpty()) {
+                continue;
+            }
+
+            rewriteRefs(doc, name -> service + "_" + name);
+
+            Map<String, Object> paths = (Map<String, Object>) doc.get("paths");
+            if (paths != null) {
+                for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+                    resultPaths.put("/" + service + pathEntry.getKey(), pathEntry.getValue());
+                }
+            }
+
+            Map<String, Object> components = (Map<String, Object>) doc.get("components");
+            if (components != null) {
+                Map<String, Object> schemas = (Map<String, Object>) components.get("schemas");
+                if (schemas != null) {
+                    for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
+                        resultSchemas.put(service + "_" + schemaEntry.getKey(), schemaEntry.getValue());
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Переписывает ссылки {@code #/components/schemas/...} во всем поддереве документа.
+     *
+     * @param obj      узел документа
+     * @param prefixer преобразование имени схемы
+     */
+    @SuppressWarnings("unchecked")
+    public void rewriteRefs(Object obj, Function<String, String> prefixer) {
+        if (obj instanceof Map<?, ?> mapObj) {
+            Map<String, Object> map = (Map<String, Object>) mapObj;
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                String key = entry.getKey();
+                Object value = entry.getValue();
+
+                if ("$ref".equals(key) && value instanceof String ref && ref.startsWith("#/components/schemas/")) {
+                    String original = ref.substring("#/components/schemas/".length());
+                    map.put("$ref", "#/components/schemas/" + prefixer.apply(original));
+                } else {
+                    rewriteRefs(value, prefixer);
+                }
+            }
+        } else if (obj instanceof List<?> list) {
+            for (Object item : list) {
+                rewriteRefs(item, prefixer);
+            }
+        }
+    }
+
+}
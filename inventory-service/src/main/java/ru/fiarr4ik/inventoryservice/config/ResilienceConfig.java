@@ -0,0 +1,135 @@
+package ru.fiarr4ik.inventoryservice.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedTimeLimiterMetrics;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Circuit breaker, bulkhead и time limiter для вызовов других сервисов.
+ * <p>Для каждого сервиса-зависимости создается свой экземпляр с общими настройками
+ * {@code resilience.*}. Состояние, отказы и занятость публикуются как метрики resilience4j.*.</p>
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(
+            @Value("${resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${resilience.circuit-breaker.slow-call-duration:2s}") Duration slowCallDuration,
+            @Value("${resilience.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${resilience.circuit-breaker.wait-in-open-state:10s}") Duration waitInOpenState) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.min(10, slidingWindowSize))
+                .waitDurationInOpenState(waitInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .recordException(ResilienceConfig::isDependencyFailure)
+                .build();
+        return CircuitBreakerRegistry.of(config);
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(
+            @Value("${resilience.bulkhead.max-concurrent-calls:25}") int maxConcurrentCalls,
+            @Value("${resilience.bulkhead.max-wait:0ms}") Duration maxWait) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build();
+        return BulkheadRegistry.of(config);
+    }
+
+    /**
+     * Time limiter — верхняя граница ожидания на случай, когда таймауты HTTP-клиента не срабатывают
+     * (например, ответ приходит медленно, но без пауз дольше таймаута чтения). Отмена future не прерывает
+     * поток вызова, поэтому она не используется, а таймаут задается не меньше суммы таймаутов клиента:
+     * обычно вызов завершается по таймауту клиента и освобождает поток вместе с разрешением bulkhead.
+     */
+    @Bean
+    public TimeLimiterRegistry timeLimiterRegistry(
+            @Value("${resilience.time-limiter.timeout:5s}") Duration timeout) {
+        TimeLimiterConfig config = TimeLimiterConfig.custom()
+                .timeoutDuration(timeout)
+                .cancelRunningFuture(false)
+                .build();
+        return TimeLimiterRegistry.of(config);
+    }
+
+    /**
+     * Потоки, в которых выполняются вызовы под time limiter. Поток занят, пока вызов не завершится
+     * или не истечет таймаут HTTP-клиента. Сработавший time limiter возвращает разрешение bulkhead,
+     * но поток не освобождает, поэтому bulkhead ограничивает число потоков, только пока time limiter
+     * не короче таймаутов клиента.
+     * <p>Задачи получают контекст вызывающего потока (текущий span трассировки), поэтому вызов
+     * другого сервиса остается дочерним для входящего запроса.</p>
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService remoteCallExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ExecutorService executor;
+        if (virtualThreads) {
+            ThreadFactory factory = Thread.ofVirtual().name("remote-call-", 0).factory();
+            executor = Executors.newThreadPerTaskExecutor(factory);
+        } else {
+            ThreadFactory factory = Thread.ofPlatform().name("remote-call-", 0).daemon(true).factory();
+            executor = Executors.newCachedThreadPool(factory);
+        }
+        ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+        return ContextExecutorService.wrap(executor, snapshotFactory::captureAll);
+    }
+
+    @Bean
+    public MeterBinder resilienceMetrics(CircuitBreakerRegistry circuitBreakerRegistry,
+                                         BulkheadRegistry bulkheadRegistry,
+                                         TimeLimiterRegistry timeLimiterRegistry) {
+        return (MeterRegistry registry) -> {
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(registry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(registry);
+            TaggedTimeLimiterMetrics.ofTimeLimiterRegistry(timeLimiterRegistry).bindTo(registry);
+            bulkheadRegistry.getEventPublisher().onEntryAdded(event -> {
+                String name = event.getAddedEntry().getName();
+                event.getAddedEntry().getEventPublisher().onCallRejected(rejected ->
+                        registry.counter("resilience4j.bulkhead.rejected.calls", "name", name).increment());
+            });
+        };
+    }
+
+    /**
+     * Отказом зависимости считаются недоступность, таймаут и ошибки 5xx.
+     * Ответы 4xx (например, «не найдено») — корректный результат и на состояние breaker'а не влияют.
+     */
+    public static boolean isDependencyFailure(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof ResourceAccessException || t instanceof HttpServerErrorException
+                    || t instanceof TimeoutException || t instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
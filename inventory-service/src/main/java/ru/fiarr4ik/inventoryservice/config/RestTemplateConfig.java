@@ -1,17 +1,110 @@
 package ru.fiarr4ik.inventoryservice.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import ru.fiarr4ik.inventoryservice.security.ServiceTokenInterceptor;
 
+import java.time.Duration;
+
+/**
+ * RestTemplate для вызовов других сервисов поверх пула соединений Apache HttpClient 5.
+ * <p>Соединения переиспользуются (keep-alive), число соединений ограничено на каждый экземпляр
+ * сервиса-получателя, простаивающие соединения закрываются фоновым потоком. Ответы в gzip/deflate
+ * распаковываются клиентом прозрачно.</p>
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${http-client.max-total:200}")
+    private int maxTotal;
+
+    @Value("${http-client.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${http-client.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${http-client.response-timeout:3s}")
+    private Duration responseTimeout;
+
+    @Value("${http-client.pool-acquire-timeout:1s}")
+    private Duration poolAcquireTimeout;
+
+    @Value("${http-client.idle-timeout:30s}")
+    private Duration idleTimeout;
+
+    @Value("${http-client.connection-ttl:5m}")
+    private Duration connectionTtl;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(responseTimeout.toMillis()))
+                .setTimeToLive(TimeValue.ofMilliseconds(connectionTtl.toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeout.toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeout.toMillis()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()))
+                .build();
+    }
+
+    /**
+     * RestTemplate собирается вручную, поэтому реестр наблюдений подключается явно: каждый вызов попадает
+     * в http.client.requests с тегами client.name (имя сервиса-получателя), uri, method, status и outcome.
+     * Каждый вызов подписывается токеном сервиса: получатели требуют аутентификацию на своих API.
+     */
     @Bean
     @LoadBalanced
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient,
+                                     ObservationRegistry observationRegistry,
+                                     ServiceTokenInterceptor serviceTokenInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.getInterceptors().add(serviceTokenInterceptor);
+        return restTemplate;
+    }
+
+    /**
+     * Метрики пула: httpcomponents.httpclient.pool.total.max, .total.connections{state=available|leased},
+     * .total.pending и .route.max.default с тегом httpclient=rest-template.
+     */
+    @Bean
+    public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(httpConnectionManager, "rest-template");
     }
 
 }
@@ -1,5 +1,7 @@
 package ru.fiarr4ik.inventoryservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,7 +11,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,13 +22,27 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.fiarr4ik.inventoryservice.dto.ErrorResponseDto;
 import ru.fiarr4ik.inventoryservice.dto.InventoryRequestDto;
 import ru.fiarr4ik.inventoryservice.dto.InventoryResponseDto;
 import ru.fiarr4ik.inventoryservice.dto.InventoryUpdateRequestDto;
+import ru.fiarr4ik.inventoryservice.dto.PageResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockAdjustmentRequestDto;
+import ru.fiarr4ik.inventoryservice.dto.StockLevelResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementBatchResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementDto;
+import ru.fiarr4ik.inventoryservice.service.DegradableResult;
+import ru.fiarr4ik.inventoryservice.service.EntityTagService;
 import ru.fiarr4ik.inventoryservice.service.InventoryService;
+import ru.fiarr4ik.inventoryservice.service.StockMovementService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -32,29 +50,88 @@ import java.util.List;
 @Tag(name = "Инвентарь", description = "API для управления складскими запасами")
 public class InventoryController {
 
+    /**
+     * Заголовок деградированного ответа: part-service не ответил или ответил без категорий и поставщиков.
+     */
+    public static final String DEGRADED_HEADER = "X-Degraded";
+
     private final InventoryService inventoryService;
+    private final StockMovementService stockMovementService;
+    private final EntityTagService entityTagService;
+    private final ObjectWriter objectWriter;
 
     @Autowired
-    public InventoryController(InventoryService inventoryService) {
+    public InventoryController(InventoryService inventoryService,
+                               StockMovementService stockMovementService,
+                               EntityTagService entityTagService,
+                               ObjectMapper objectMapper) {
         this.inventoryService = inventoryService;
+        this.stockMovementService = stockMovementService;
+        this.entityTagService = entityTagService;
+        this.objectWriter = objectMapper.writer();
     }
 
     @GetMapping
     @Operation(
-            summary = "Получить все позиции инвентаря",
-            description = "Возвращает список всех позиций на складе"
+            summary = "Получить страницу позиций инвентаря",
+            description = "Позиции упорядочены по ID. Для следующей страницы передайте nextCursor из ответа в параметре cursor"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Список позиций успешно получен",
+                    description = "Страница позиций успешно получена. Если part-service не ответил полностью, ответ приходит "
+                            + "без ETag, с Cache-Control: no-store и заголовком X-Degraded: true",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = List.class))
+                            schema = @Schema(implementation = PageResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Страница не изменилась с момента запроса, указанного в If-None-Match"
+            )
+    })
+    public ResponseEntity<PageResponseDto<InventoryResponseDto>> getInventories(
+            @Parameter(description = "Курсор, полученный с предыдущей страницей")
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @Parameter(description = "Размер страницы, не более " + InventoryService.MAX_PAGE_SIZE)
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            WebRequest request) {
+        DegradableResult<PageResponseDto<InventoryResponseDto>> inventories =
+                inventoryService.getInventories(cursor, limit);
+        if (inventories.degraded()) {
+            return degradedResponse(inventories.value());
+        }
+        String etag = entityTagService.tagOf(inventories.value());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(inventories.value());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Выгрузить все позиции инвентаря потоком NDJSON",
+            description = "Каждая строка ответа — отдельная позиция в формате JSON"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Выгрузка позиций",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = InventoryResponseDto.class))
             )
     })
-    public ResponseEntity<List<InventoryResponseDto>> getAllInventories() {
-        List<InventoryResponseDto> inventories = inventoryService.getAllInventories();
-        return ResponseEntity.ok(inventories);
+    public ResponseEntity<StreamingResponseBody> exportInventories() {
+        StreamingResponseBody body = outputStream -> inventoryService.exportInventories(inventory -> {
+            try {
+                outputStream.write(objectWriter.writeValueAsBytes(inventory));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -65,10 +142,15 @@ public class InventoryController {
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Инвентарь найден",
+                    description = "Инвентарь найден. Если part-service не ответил полностью, ответ приходит "
+                            + "без ETag, с Cache-Control: no-store и заголовком X-Degraded: true",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = InventoryResponseDto.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Запись не изменилась с момента запроса, указанного в If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Инвентарь не найден",
@@ -78,9 +160,17 @@ public class InventoryController {
     })
     public ResponseEntity<InventoryResponseDto> getInventoryById(
             @Parameter(description = "ID инвентаря", required = true)
-            @PathVariable(name = "id") Long id) {
-        InventoryResponseDto inventory = inventoryService.getInventoryById(id);
-        return ResponseEntity.ok(inventory);
+            @PathVariable(name = "id") Long id,
+            WebRequest request) {
+        DegradableResult<InventoryResponseDto> inventory = inventoryService.getInventoryById(id);
+        if (inventory.degraded()) {
+            return degradedResponse(inventory.value());
+        }
+        String etag = entityTagService.tagOf(inventory.value());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(inventory.value());
     }
 
     @PostMapping
@@ -132,6 +222,10 @@ public class InventoryController {
                     description = "Запись не найдена",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Запись изменена параллельным запросом"
             )
     })
     public ResponseEntity<InventoryResponseDto> updateInventory(
@@ -143,6 +237,96 @@ public class InventoryController {
         return ResponseEntity.ok(updated);
     }
 
+    @PostMapping("/{id}/adjustments")
+    @Operation(
+            summary = "Изменить остаток позиции",
+            description = "Атомарно увеличивает или уменьшает остаток на указанную величину. "
+                    + "Параллельные изменения одной позиции не теряются; остаток не может стать отрицательным"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Остаток изменен",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StockLevelResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Ошибки валидации",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Запись не найдена"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Недостаточно остатка для списания"
+            )
+    })
+    public ResponseEntity<StockLevelResponseDto> adjustStock(
+            @Parameter(description = "ID инвентаря", required = true)
+            @PathVariable(name = "id") Long id,
+            @Parameter(description = "Изменение остатка", required = true)
+            @Valid @RequestBody StockAdjustmentRequestDto requestDto) {
+        StockLevelResponseDto stockLevel = inventoryService.adjustStock(id, requestDto.getDelta());
+        return ResponseEntity.ok(stockLevel);
+    }
+
+    @PostMapping(value = "/movements", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Применить пакет движений по складу",
+            description = "Принимает массив движений. Движения по одной позиции проверяются по порядку и "
+                    + "применяются одним изменением; результат возвращается для каждого движения"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Пакет обработан",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StockMovementBatchResponseDto.class))
+            )
+    })
+    public ResponseEntity<StockMovementBatchResponseDto> applyMovements(
+            @Parameter(description = "Движения по складу", required = true)
+            @RequestBody List<StockMovementDto> movements) {
+        StockMovementBatchResponseDto result = stockMovementService.applyMovements(movements);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/movements", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Применить поток движений по складу в формате NDJSON",
+            description = "Каждая строка тела — отдельное движение в формате JSON. Тело читается построчно "
+                    + "и применяется порциями по " + StockMovementService.CHUNK_SIZE + " движений. "
+                    + "Ответ — тоже NDJSON: по строке на каждую зафиксированную порцию, с результатами ее движений "
+                    + "и остатками ее позиций. Если обработка прервалась, уже выведенные порции остаются примененными"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Результаты порций по мере их применения",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = StockMovementBatchResponseDto.class))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> applyMovementStream(InputStream body) {
+        StreamingResponseBody results = outputStream -> stockMovementService.applyMovements(body, chunk -> {
+            try {
+                outputStream.write(objectWriter.writeValueAsBytes(chunk));
+                outputStream.write('\n');
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             summary = "Удалить запись инвентаря",
@@ -167,4 +351,14 @@ public class InventoryController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Ответ, собранный без полных данных part-service: отдается без ETag и с запретом кэширования.
+     */
+    private static <T> ResponseEntity<T> degradedResponse(T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header(DEGRADED_HEADER, "true")
+                .body(body);
+    }
+
 }
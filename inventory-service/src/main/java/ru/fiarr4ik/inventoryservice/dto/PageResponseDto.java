@@ -0,0 +1,25 @@
+package ru.fiarr4ik.inventoryservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DTO страницы списка с курсором на следующую страницу.
+ *
+ * @param <T> тип элементов страницы
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Страница списка")
+public class PageResponseDto<T> {
+
+    @Schema(description = "Элементы страницы")
+    private final List<T> items;
+
+    @Schema(description = "Курсор следующей страницы; отсутствует, если страница последняя", example = "50")
+    private final Long nextCursor;
+
+}
@@ -0,0 +1,21 @@
+package ru.fiarr4ik.inventoryservice.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+public class PartBatchResponseDto {
+
+    private Map<Long, PartResponseDto> found = new LinkedHashMap<>();
+
+    private Set<Long> missingIds = new LinkedHashSet<>();
+
+    private boolean degraded;
+
+}
@@ -0,0 +1,19 @@
+package ru.fiarr4ik.inventoryservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Изменение остатка позиции")
+public class StockAdjustmentRequestDto {
+
+    @Schema(description = "Изменение остатка: положительное при поступлении, отрицательное при списании", example = "-3")
+    @NotNull(message = "Изменение остатка должно быть указано")
+    private Integer delta;
+
+}
@@ -0,0 +1,23 @@
+package ru.fiarr4ik.inventoryservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.Date;
+
+@Data
+@Schema(description = "Остаток позиции после изменения")
+public class StockLevelResponseDto {
+
+    private Long inventoryId;
+
+    private Integer quantityInStock;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private Date lastRestockDate;
+
+    @Schema(description = "Версия записи, увеличивается при каждом изменении")
+    private Long version;
+
+}
@@ -0,0 +1,36 @@
+package ru.fiarr4ik.inventoryservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Schema(description = "Результат пакетного применения движений по складу")
+public class StockMovementBatchResponseDto {
+
+    @Schema(description = "Число примененных движений")
+    private int applied;
+
+    @Schema(description = "Число отклоненных движений")
+    private int rejected;
+
+    @Schema(description = "Результаты движений в порядке запроса")
+    private final List<StockMovementResultDto> results = new ArrayList<>();
+
+    @Schema(description = "Остатки затронутых позиций после применения пакета, по ID позиции")
+    private final Map<Long, Integer> stockLevels = new LinkedHashMap<>();
+
+    public void addResult(StockMovementResultDto result) {
+        results.add(result);
+        if (result.getStatus() == StockMovementStatus.APPLIED) {
+            applied++;
+        } else {
+            rejected++;
+        }
+    }
+
+}
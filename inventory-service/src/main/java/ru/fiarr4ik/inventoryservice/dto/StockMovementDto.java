@@ -0,0 +1,20 @@
+package ru.fiarr4ik.inventoryservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Движение по складу")
+public class StockMovementDto {
+
+    @Schema(description = "ID позиции инвентаря", example = "1")
+    private Long inventoryId;
+
+    @Schema(description = "Изменение остатка: положительное при поступлении, отрицательное при списании", example = "-3")
+    private Integer delta;
+
+}
@@ -0,0 +1,24 @@
+package ru.fiarr4ik.inventoryservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Результат применения движения")
+public class StockMovementResultDto {
+
+    @Schema(description = "Порядковый номер движения в запросе, начиная с 0", example = "0")
+    private final int index;
+
+    private final Long inventoryId;
+
+    private final Integer delta;
+
+    private final StockMovementStatus status;
+
+    @Schema(description = "Причина отклонения; отсутствует для примененных движений")
+    private final String message;
+
+}
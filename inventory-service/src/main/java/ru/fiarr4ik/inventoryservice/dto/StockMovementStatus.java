@@ -0,0 +1,14 @@
+package ru.fiarr4ik.inventoryservice.dto;
+
+/**
+ * Результат применения отдельного движения из пакета.
+ */
+public enum StockMovementStatus {
+
+    APPLIED,
+    INVALID,
+    NOT_FOUND,
+    INSUFFICIENT_STOCK,
+    CONFLICT
+
+}
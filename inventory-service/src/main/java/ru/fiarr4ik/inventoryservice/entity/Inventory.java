@@ -5,7 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,7 +20,8 @@ import java.util.Date;
 public class Inventory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_seq")
+    @SequenceGenerator(name = "inventory_seq", sequenceName = "inventory_seq", allocationSize = 50)
     @Column(name = "inventory_id")
     private Long inventoryId;
 
@@ -31,5 +34,9 @@ public class Inventory {
     @Column(name = "last_restock_date")
     private Date lastRestockDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
 
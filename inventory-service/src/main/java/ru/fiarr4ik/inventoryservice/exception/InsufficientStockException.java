@@ -0,0 +1,9 @@
+package ru.fiarr4ik.inventoryservice.exception;
+
+public class InsufficientStockException extends RuntimeException {
+
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,30 @@
+package ru.fiarr4ik.inventoryservice.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import ru.fiarr4ik.inventoryservice.dto.InventoryRequestDto;
+import ru.fiarr4ik.inventoryservice.dto.InventoryResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockLevelResponseDto;
+import ru.fiarr4ik.inventoryservice.entity.Inventory;
+
+/**
+ * Преобразования складской позиции, генерируемые MapStruct при компиляции.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface InventoryMapper {
+
+    /**
+     * Запчасть в ответе заполняет {@code InventoryService} по данным part-service.
+     */
+    @Mapping(target = "part", ignore = true)
+    InventoryResponseDto toResponseDto(Inventory entity);
+
+    StockLevelResponseDto toStockLevelDto(Inventory entity);
+
+    @Mapping(target = "inventoryId", ignore = true)
+    @Mapping(target = "lastRestockDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Inventory toEntity(InventoryRequestDto dto);
+
+}
@@ -0,0 +1,123 @@
+package ru.fiarr4ik.inventoryservice.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Пакетные операции с остатками через JDBC, минуя контекст персистентности.
+ * <p>Время каждого метода пишется в таймер {@code jdbc.repository.invocations} с тегами class и method.</p>
+ */
+@Timed("jdbc.repository.invocations")
+@Repository
+public class InventoryJdbcRepository {
+
+    private static final String SELECT_QUANTITIES =
+            "SELECT inventory_id, quantity_in_stock FROM inventory WHERE inventory_id IN (:ids)";
+
+    private static final String SELECT_QUANTITIES_FOR_UPDATE =
+            SELECT_QUANTITIES + " ORDER BY inventory_id FOR UPDATE";
+
+    private static final String ADJUST_QUANTITY =
+            "UPDATE inventory "
+                    + "SET quantity_in_stock = quantity_in_stock + ?, "
+                    + "last_restock_date = CASE WHEN ? THEN ? ELSE last_restock_date END, "
+                    + "version = version + 1 "
+                    + "WHERE inventory_id = ? AND quantity_in_stock::bigint + ? BETWEEN 0 AND 2147483647";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InventoryJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Читает текущие остатки позиций одним запросом.
+     *
+     * @param inventoryIds ID позиций
+     * @return остатки по ID; отсутствующие позиции в результат не попадают
+     */
+    public Map<Long, Integer> findQuantities(Collection<Long> inventoryIds) {
+        return queryQuantities(SELECT_QUANTITIES, inventoryIds);
+    }
+
+    /**
+     * Читает текущие остатки позиций и блокирует их строки до конца транзакции, чтобы остатки
+     * не изменились между проверкой движений и их применением. Строки блокируются в порядке ID,
+     * как и в {@link #adjustQuantities}, поэтому параллельные пакеты не взаимоблокируются.
+     *
+     * @param inventoryIds ID позиций
+     * @return остатки по ID; отсутствующие позиции в результат не попадают
+     */
+    public Map<Long, Integer> lockQuantities(Collection<Long> inventoryIds) {
+        return queryQuantities(SELECT_QUANTITIES_FOR_UPDATE, inventoryIds);
+    }
+
+    private Map<Long, Integer> queryQuantities(String sql, Collection<Long> inventoryIds) {
+        if (inventoryIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Integer> quantities = new HashMap<>();
+        jdbcTemplate.query(sql, Map.of("ids", inventoryIds),
+                rs -> {
+                    quantities.put(rs.getLong("inventory_id"), rs.getInt("quantity_in_stock"));
+                });
+        return quantities;
+    }
+
+    /**
+     * Применяет изменения остатков одним пакетом UPDATE-запросов. Строка не обновляется, если остаток
+     * стал бы отрицательным или вышел бы за пределы int; сумма считается в bigint, поэтому переполнение
+     * не приводит к ошибке запроса. Изменения следует передавать упорядоченными по ID, чтобы параллельные
+     * пакеты блокировали строки в одном порядке.
+     *
+     * @param changes изменения остатков, не более одного на позицию
+     * @param now     дата поступления для позиций с пополнением
+     * @return число обновленных строк для каждого изменения: 0, если остаток вышел бы за допустимые пределы
+     */
+    public int[] adjustQuantities(List<QuantityChange> changes, Date now) {
+        Timestamp restockDate = new Timestamp(now.getTime());
+        return jdbcTemplate.getJdbcTemplate().batchUpdate(ADJUST_QUANTITY, new BatchPreparedStatementSetter() {
+
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                QuantityChange change = changes.get(i);
+                ps.setInt(1, change.delta());
+                ps.setBoolean(2, change.restock());
+                ps.setTimestamp(3, restockDate);
+                ps.setLong(4, change.inventoryId());
+                ps.setInt(5, change.delta());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+
+        });
+    }
+
+    /**
+     * Суммарное изменение остатка позиции.
+     *
+     * @param inventoryId ID позиции
+     * @param delta       суммарное изменение остатка
+     * @param restock     было ли среди движений поступление
+     */
+    public record QuantityChange(Long inventoryId, int delta, boolean restock) {
+    }
+
+}
@@ -1,8 +1,36 @@
 package ru.fiarr4ik.inventoryservice.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.fiarr4ik.inventoryservice.entity.Inventory;
 
+import java.util.Date;
+import java.util.List;
+
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
+    List<Inventory> findByInventoryIdGreaterThanOrderByInventoryIdAsc(Long inventoryId, Limit limit);
+
+    /**
+     * Атомарно изменяет остаток на величину {@code delta} одним UPDATE.
+     * Строка не обновляется, если остаток стал бы отрицательным. При пополнении обновляется дата поступления.
+     *
+     * @param inventoryId ID позиции
+     * @param delta       изменение остатка: положительное при поступлении, отрицательное при списании
+     * @param now         дата поступления
+     * @return число обновленных строк: 0, если позиции нет или остатка недостаточно
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Inventory i "
+            + "set i.quantityInStock = i.quantityInStock + :delta, "
+            + "i.lastRestockDate = case when :delta > 0 then :now else i.lastRestockDate end, "
+            + "i.version = i.version + 1 "
+            + "where i.inventoryId = :inventoryId and i.quantityInStock + :delta >= 0")
+    int adjustQuantity(@Param("inventoryId") Long inventoryId,
+                       @Param("delta") int delta,
+                       @Param("now") Date now);
+
 }
@@ -0,0 +1,94 @@
+package ru.fiarr4ik.inventoryservice.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Токен, с которым сервис обращается к другим сервисам.
+ * <p>Токен подписывается тем же ключом {@code security.jwt.secret}, которым сервисы проверяют токены
+ * security-service. Субъект токена — имя сервиса, claim {@code token_type} равен {@code service}:
+ * по нему сервисы отличают вызов другого сервиса от пользовательского запроса. Токен переиспользуется
+ * и перевыпускается по истечении половины срока действия.</p>
+ */
+@Component
+public class ServiceTokenProvider {
+
+    /**
+     * Claim, отличающий токен сервиса от пользовательского.
+     */
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+
+    public static final String SERVICE_TOKEN_TYPE = "service";
+
+    /**
+     * Полномочие, которое получает запрос с токеном сервиса; открывает эндпоинты, доступные только сервисам.
+     */
+    public static final String SERVICE_AUTHORITY = "SERVICE";
+
+    private static final String TOKEN_ISSUER = "security-service";
+
+    private final JwtEncoder jwtEncoder;
+    private final String serviceName;
+    private final Duration ttl;
+
+    private volatile IssuedToken current;
+
+    @Autowired
+    public ServiceTokenProvider(@Value("${security.jwt.secret}") String secret,
+                                @Value("${spring.application.name}") String serviceName,
+                                @Value("${security.jwt.service-token-ttl:10m}") Duration ttl) {
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.jwtEncoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        this.serviceName = serviceName;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Действующий токен сервиса; при необходимости выпускает новый.
+     */
+    public String token() {
+        IssuedToken token = current;
+        if (token == null || Instant.now().isAfter(token.renewAt())) {
+            synchronized (this) {
+                token = current;
+                if (token == null || Instant.now().isAfter(token.renewAt())) {
+                    token = issue();
+                    current = token;
+                }
+            }
+        }
+        return token.value();
+    }
+
+    private IssuedToken issue() {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(TOKEN_ISSUER)
+                .subject(serviceName)
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim(TOKEN_TYPE_CLAIM, SERVICE_TOKEN_TYPE)
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        Jwt jwt = jwtEncoder.encode(JwtEncoderParameters.from(header, claims));
+        return new IssuedToken(jwt.getTokenValue(), now.plus(ttl.dividedBy(2)));
+    }
+
+    private record IssuedToken(String value, Instant renewAt) {
+    }
+
+}
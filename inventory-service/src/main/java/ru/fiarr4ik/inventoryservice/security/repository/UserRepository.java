@@ -1,14 +0,0 @@
-package ru.fiarr4ik.inventoryservice.security.repository;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-import ru.fiarr4ik.inventoryservice.security.model.User;
-
-import java.util.Optional;
-
-@Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByUsername(String username);
-
-}
@@ -0,0 +1,12 @@
+package ru.fiarr4ik.inventoryservice.service;
+
+/**
+ * Результат, собранный с данными part-service, вместе с признаком деградации.
+ *
+ * @param value    результат
+ * @param degraded true, если part-service не ответил или сам ответил деградированными данными:
+ *                 пустые поля в результате могут скрывать существующие записи
+ * @param <T>      тип результата
+ */
+public record DegradableResult<T>(T value, boolean degraded) {
+}
@@ -0,0 +1,79 @@
+package ru.fiarr4ik.inventoryservice.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import ru.fiarr4ik.inventoryservice.dto.CategoryDto;
+import ru.fiarr4ik.inventoryservice.dto.InventoryResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.PageResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.PartResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.SupplierDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * Вычисление строгих ETag для ответов с позициями инвентаря.
+ * <p>Тег строится как MD5 от значений полей в порядке их вывода в ответе, включая вложенные
+ * запчасть, категорию и поставщика, поэтому меняется вместе с телом ответа и совпадает на всех
+ * экземплярах сервиса. Сериализация в JSON для этого не нужна.</p>
+ * <p>Тег считается по уже собранному ответу, то есть после чтения позиций и запроса запчастей
+ * к part-service. Ответ 304 экономит только сериализацию и передачу тела, но не эти обращения.</p>
+ */
+@Service
+public class EntityTagService {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final char NULL_VALUE = '\u0000';
+
+    public String tagOf(InventoryResponseDto inventory) {
+        StringBuilder fields = new StringBuilder();
+        appendInventory(fields, inventory);
+        return toTag(fields);
+    }
+
+    public String tagOf(PageResponseDto<InventoryResponseDto> page) {
+        StringBuilder fields = new StringBuilder();
+        page.getItems().forEach(inventory -> appendInventory(fields, inventory));
+        append(fields, page.getNextCursor());
+        return toTag(fields);
+    }
+
+    private static void appendInventory(StringBuilder fields, InventoryResponseDto inventory) {
+        Date lastRestockDate = inventory.getLastRestockDate();
+        append(fields, inventory.getInventoryId(), inventory.getQuantityInStock(),
+                lastRestockDate == null ? null : lastRestockDate.getTime());
+        appendPart(fields, inventory.getPart());
+    }
+
+    private static void appendPart(StringBuilder fields, PartResponseDto part) {
+        if (part == null) {
+            append(fields, (Object) null);
+            return;
+        }
+        append(fields, part.getName(), part.getDescription(), part.getUnitPrice());
+        CategoryDto category = part.getCategory();
+        if (category == null) {
+            append(fields, (Object) null);
+        } else {
+            append(fields, category.getName(), category.getDescription());
+        }
+        SupplierDto supplier = part.getSupplier();
+        if (supplier == null) {
+            append(fields, (Object) null);
+        } else {
+            append(fields, supplier.getName(), supplier.getContactPerson(), supplier.getPhone(),
+                    supplier.getEmail(), supplier.getAddress());
+        }
+    }
+
+    private static void append(StringBuilder fields, Object... values) {
+        for (Object value : values) {
+            fields.append(value == null ? NULL_VALUE : value).append(SEPARATOR);
+        }
+    }
+
+    private static String toTag(StringBuilder fields) {
+        return "\"" + DigestUtils.md5DigestAsHex(fields.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+}
@@ -1,28 +1,33 @@
 package ru.fiarr4ik.inventoryservice.service;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import ru.fiarr4ik.inventoryservice.dto.InventoryRequestDto;
 import ru.fiarr4ik.inventoryservice.dto.InventoryResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockLevelResponseDto;
 import ru.fiarr4ik.inventoryservice.entity.Inventory;
+import ru.fiarr4ik.inventoryservice.mapper.InventoryMapper;
 
 @Service
 public class InventoryMappingService {
 
-    private final ModelMapper modelMapper;
+    private final InventoryMapper inventoryMapper;
 
     @Autowired
-    public InventoryMappingService(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+    public InventoryMappingService(InventoryMapper inventoryMapper) {
+        this.inventoryMapper = inventoryMapper;
     }
 
     public InventoryResponseDto toResponseDto(Inventory entity) {
-        return modelMapper.map(entity, InventoryResponseDto.class);
+        return inventoryMapper.toResponseDto(entity);
+    }
+
+    public StockLevelResponseDto toStockLevelDto(Inventory entity) {
+        return inventoryMapper.toStockLevelDto(entity);
     }
 
     public Inventory toEntity(InventoryRequestDto dto) {
-        return modelMapper.map(dto, Inventory.class);
+        return inventoryMapper.toEntity(dto);
     }
 
 }
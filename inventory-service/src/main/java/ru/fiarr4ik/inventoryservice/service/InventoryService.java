@@ -1,31 +1,49 @@
 package ru.fiarr4ik.inventoryservice.service;
 
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.fiarr4ik.inventoryservice.dto.InventoryRequestDto;
 import ru.fiarr4ik.inventoryservice.dto.InventoryResponseDto;
 import ru.fiarr4ik.inventoryservice.dto.InventoryUpdateRequestDto;
+import ru.fiarr4ik.inventoryservice.dto.PageResponseDto;
 import ru.fiarr4ik.inventoryservice.dto.PartResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockLevelResponseDto;
 import ru.fiarr4ik.inventoryservice.entity.Inventory;
+import ru.fiarr4ik.inventoryservice.exception.InsufficientStockException;
 import ru.fiarr4ik.inventoryservice.exception.InventoryNotFoundException;
 import ru.fiarr4ik.inventoryservice.repository.InventoryRepository;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class InventoryService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final InventoryRepository inventoryRepository;
     private final InventoryMappingService inventoryMappingService;
     private final ValidatePartService validatePartService;
+    private final EntityManager entityManager;
 
     @Autowired
-    public InventoryService(InventoryRepository inventoryRepository, InventoryMappingService inventoryMappingService, ValidatePartService validatePartService) {
+    public InventoryService(InventoryRepository inventoryRepository,
+                            InventoryMappingService inventoryMappingService,
+                            ValidatePartService validatePartService,
+                            EntityManager entityManager) {
         this.inventoryRepository = inventoryRepository;
         this.inventoryMappingService = inventoryMappingService;
         this.validatePartService = validatePartService;
+        this.entityManager = entityManager;
     }
 
     public InventoryResponseDto createInventory(InventoryRequestDto requestDto) {
@@ -34,33 +52,97 @@ public class InventoryService {
         inventory.setLastRestockDate(new Date());
         Inventory savedInventory = inventoryRepository.save(inventory);
 
-        PartResponseDto partResponseDto = validatePartService.getPartById(savedInventory.getPartId());
+        PartResponseDto partResponseDto = validatePartService.getPartById(savedInventory.getPartId()).value();
 
         InventoryResponseDto responseDto = inventoryMappingService.toResponseDto(savedInventory);
         responseDto.setPart(partResponseDto);
         return responseDto;
     }
 
-    public InventoryResponseDto getInventoryById(Long id) {
+    /**
+     * Возвращает позицию инвентаря с данными запчасти.
+     *
+     * @param id ID позиции
+     * @return позиция и признак деградации, если данные запчасти получены не полностью
+     */
+    public DegradableResult<InventoryResponseDto> getInventoryById(Long id) {
         Inventory inventory = inventoryRepository.findById(id)
                 .orElseThrow(() -> new InventoryNotFoundException("Инвентарь с id=" + id + " не найден!"));
 
-        PartResponseDto partResponseDto = validatePartService.getPartById(inventory.getPartId());
+        DegradableResult<PartResponseDto> part = validatePartService.getPartById(inventory.getPartId());
 
         InventoryResponseDto responseDto = inventoryMappingService.toResponseDto(inventory);
-        responseDto.setPart(partResponseDto);
-        return responseDto;
+        responseDto.setPart(part.value());
+        return new DegradableResult<>(responseDto, part.degraded());
+    }
+
+    /**
+     * Возвращает страницу позиций инвентаря, упорядоченных по ID (keyset-пагинация).
+     *
+     * @param cursor ID последней позиции предыдущей страницы; null для первой страницы
+     * @param limit  размер страницы, ограничивается {@link #MAX_PAGE_SIZE}
+     * @return страница позиций с курсором следующей страницы и признак деградации
+     */
+    public DegradableResult<PageResponseDto<InventoryResponseDto>> getInventories(Long cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Inventory> inventories = inventoryRepository.findByInventoryIdGreaterThanOrderByInventoryIdAsc(
+                cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+
+        Long nextCursor = null;
+        if (inventories.size() > pageSize) {
+            inventories = inventories.subList(0, pageSize);
+            nextCursor = inventories.get(pageSize - 1).getInventoryId();
+        }
+
+        DegradableResult<List<InventoryResponseDto>> items = enrich(inventories);
+        return new DegradableResult<>(new PageResponseDto<>(items.value(), nextCursor), items.degraded());
     }
 
-    public List<InventoryResponseDto> getAllInventories() {
-        return inventoryRepository.findAll().stream()
+    /**
+     * Выгружает все позиции инвентаря порциями, читая каждую порцию keyset-запросом по ID.
+     * Соединение с базой возвращается в пул до пакетного запроса к part-service, поэтому медленный
+     * part-service не удерживает соединения. Прочитанные позиции отсоединяются от контекста персистентности
+     * запроса, и объем занятой памяти не зависит от размера таблицы.
+     *
+     * @param consumer получатель позиций в порядке возрастания ID
+     */
+    public void exportInventories(Consumer<InventoryResponseDto> consumer) {
+        long cursor = 0L;
+        List<Inventory> chunk;
+        do {
+            chunk = inventoryRepository.findByInventoryIdGreaterThanOrderByInventoryIdAsc(
+                    cursor, Limit.of(EXPORT_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunk.forEach(entityManager::detach);
+            cursor = chunk.get(chunk.size() - 1).getInventoryId();
+            enrich(chunk).value().forEach(consumer);
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
+    }
+
+    /**
+     * Обогащает позиции данными запчастей одним пакетным запросом к part-service.
+     *
+     * @param inventories позиции инвентаря
+     * @return DTO позиций в том же порядке, для ненайденных запчастей поле part остается пустым;
+     *         признак деградации ответа part-service
+     */
+    private DegradableResult<List<InventoryResponseDto>> enrich(List<Inventory> inventories) {
+        Set<Long> partIds = inventories.stream()
+                .map(Inventory::getPartId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        DegradableResult<Map<Long, PartResponseDto>> parts = validatePartService.getPartsByIds(partIds);
+
+        List<InventoryResponseDto> items = inventories.stream()
                 .map(inventory -> {
                     InventoryResponseDto dto = inventoryMappingService.toResponseDto(inventory);
-                    PartResponseDto partResponseDto = validatePartService.getPartById(inventory.getPartId());
-                    dto.setPart(partResponseDto);
+                    dto.setPart(parts.value().get(inventory.getPartId()));
                     return dto;
                 })
                 .collect(Collectors.toList());
+        return new DegradableResult<>(items, parts.degraded());
     }
 
     public InventoryResponseDto updateInventory(Long id, InventoryUpdateRequestDto requestDto) {
@@ -75,12 +157,37 @@ public class InventoryService {
 
         Inventory savedInventory = inventoryRepository.save(inventoryToUpdate);
 
-        PartResponseDto partResponseDto = validatePartService.getPartById(savedInventory.getPartId());
+        PartResponseDto partResponseDto = validatePartService.getPartById(savedInventory.getPartId()).value();
         InventoryResponseDto responseDto = inventoryMappingService.toResponseDto(savedInventory);
         responseDto.setPart(partResponseDto);
         return responseDto;
     }
 
+    /**
+     * Изменяет остаток позиции на указанную величину одним атомарным UPDATE, без чтения и блокировок
+     * в приложении. Параллельные поступления и списания по одной позиции не теряют изменений.
+     *
+     * @param id    ID позиции
+     * @param delta изменение остатка: положительное при поступлении, отрицательное при списании
+     * @return остаток позиции после изменения
+     * @throws InventoryNotFoundException  если позиции нет
+     * @throws InsufficientStockException если остаток стал бы отрицательным
+     */
+    @Transactional
+    public StockLevelResponseDto adjustStock(Long id, int delta) {
+        if (inventoryRepository.adjustQuantity(id, delta, new Date()) == 0) {
+            if (!inventoryRepository.existsById(id)) {
+                throw new InventoryNotFoundException("Инвентарь с id=" + id + " не найден!");
+            }
+            throw new InsufficientStockException("Недостаточно остатка для списания " + Math.abs(delta)
+                    + " ед. по позиции id=" + id);
+        }
+
+        Inventory inventory = inventoryRepository.findById(id)
+                .orElseThrow(() -> new InventoryNotFoundException("Инвентарь с id=" + id + " не найден!"));
+        return inventoryMappingService.toStockLevelDto(inventory);
+    }
+
     public void deleteInventory(Long id) {
         Inventory inventory = inventoryRepository.findById(id)
                 .orElseThrow(() -> new InventoryNotFoundException("Инвентарь с id=" + id + " не найден!"));
@@ -0,0 +1,234 @@
+package ru.fiarr4ik.inventoryservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementBatchResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementDto;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementResultDto;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementStatus;
+import ru.fiarr4ik.inventoryservice.repository.InventoryJdbcRepository;
+import ru.fiarr4ik.inventoryservice.repository.InventoryJdbcRepository.QuantityChange;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Пакетное применение движений по складу.
+ * <p>Движения обрабатываются порциями по {@link #CHUNK_SIZE}, каждая порция — в своей транзакции:
+ * остатки затронутых позиций читаются одним запросом с блокировкой строк (FOR UPDATE), движения по одной
+ * позиции проверяются по порядку и сворачиваются в одно изменение, а изменения применяются одним
+ * JDBC-пакетом UPDATE-запросов, упорядоченных по ID позиции. Пока порция не зафиксирована, параллельные
+ * изменения тех же позиций ждут, поэтому проверка идет по актуальным остаткам. Запчасти в part-service
+ * при этом не запрашиваются.</p>
+ */
+@Service
+public class StockMovementService {
+
+    public static final int CHUNK_SIZE = 5000;
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader movementReader;
+
+    @Autowired
+    public StockMovementService(InventoryJdbcRepository inventoryJdbcRepository,
+                                TransactionTemplate transactionTemplate,
+                                ObjectMapper objectMapper) {
+        this.inventoryJdbcRepository = inventoryJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.movementReader = objectMapper.readerFor(StockMovementDto.class);
+    }
+
+    /**
+     * Применяет список движений.
+     *
+     * @param movements движения в порядке поступления
+     * @return результат по каждому движению и итоговые остатки затронутых позиций
+     */
+    public StockMovementBatchResponseDto applyMovements(List<StockMovementDto> movements) {
+        StockMovementBatchResponseDto response = new StockMovementBatchResponseDto();
+        List<Movement> chunk = new ArrayList<>(Math.min(movements.size(), CHUNK_SIZE));
+        for (int i = 0; i < movements.size(); i++) {
+            chunk.add(new Movement(i, movements.get(i), null));
+            if (chunk.size() == CHUNK_SIZE) {
+                applyChunk(chunk, response);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            applyChunk(chunk, response);
+        }
+        return response;
+    }
+
+    /**
+     * Применяет движения из потока NDJSON, читая его построчно без буферизации всего тела.
+     * Строка, которую не удалось разобрать, отклоняется, остальные движения применяются.
+     * Результат порции передается получателю сразу после фиксации ее транзакции, поэтому в памяти
+     * находится не больше одной порции движений и их результатов.
+     *
+     * @param inputStream   тело запроса, по одному движению в строке
+     * @param chunkConsumer получатель результата каждой порции: движения порции и остатки ее позиций
+     */
+    public void applyMovements(InputStream inputStream, Consumer<StockMovementBatchResponseDto> chunkConsumer) {
+        List<Movement> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            int index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(parse(index++, line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    chunkConsumer.accept(applyChunk(chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(applyChunk(chunk));
+        }
+    }
+
+    private Movement parse(int index, String line) {
+        try {
+            return new Movement(index, movementReader.readValue(line), null);
+        } catch (JsonProcessingException e) {
+            return new Movement(index, null, "Не удалось разобрать строку: " + e.getOriginalMessage());
+        }
+    }
+
+    private StockMovementBatchResponseDto applyChunk(List<Movement> chunk) {
+        StockMovementBatchResponseDto response = new StockMovementBatchResponseDto();
+        applyChunk(chunk, response);
+        return response;
+    }
+
+    private void applyChunk(List<Movement> chunk, StockMovementBatchResponseDto response) {
+        transactionTemplate.executeWithoutResult(status -> applyChunkInTransaction(chunk, response));
+    }
+
+    private void applyChunkInTransaction(List<Movement> chunk, StockMovementBatchResponseDto response) {
+        Set<Long> inventoryIds = new HashSet<>();
+        for (Movement movement : chunk) {
+            if (movement.isValid()) {
+                inventoryIds.add(movement.dto().getInventoryId());
+            }
+        }
+        Map<Long, Integer> quantities = new HashMap<>(inventoryJdbcRepository.lockQuantities(inventoryIds));
+
+        StockMovementResultDto[] results = new StockMovementResultDto[chunk.size()];
+        Map<Long, Integer> netDeltas = new TreeMap<>();
+        Set<Long> restocked = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Movement movement = chunk.get(i);
+            if (!movement.isValid()) {
+                results[i] = movement.reject(StockMovementStatus.INVALID,
+                        movement.error() != null ? movement.error() : "inventoryId и delta обязательны");
+                continue;
+            }
+
+            Long inventoryId = movement.dto().getInventoryId();
+            int delta = movement.dto().getDelta();
+            Integer quantity = quantities.get(inventoryId);
+            Integer newQuantity = quantity == null ? null : addOrNull(quantity, delta);
+            if (quantity == null) {
+                results[i] = movement.reject(StockMovementStatus.NOT_FOUND,
+                        "Инвентарь с id=" + inventoryId + " не найден!");
+            } else if (newQuantity == null) {
+                results[i] = movement.reject(StockMovementStatus.INVALID,
+                        "Остаток " + quantity + " после поступления " + delta + " ед. превысил бы " + Integer.MAX_VALUE);
+            } else if (newQuantity < 0) {
+                results[i] = movement.reject(StockMovementStatus.INSUFFICIENT_STOCK,
+                        "Недостаточно остатка для списания " + Math.abs((long) delta) + " ед., остаток " + quantity);
+            } else {
+                quantities.put(inventoryId, newQuantity);
+                netDeltas.merge(inventoryId, delta, Math::addExact);
+                if (delta > 0) {
+                    restocked.add(inventoryId);
+                }
+                results[i] = movement.apply();
+            }
+        }
+
+        List<QuantityChange> changes = new ArrayList<>(netDeltas.size());
+        netDeltas.forEach((inventoryId, delta) -> {
+            if (delta != 0 || restocked.contains(inventoryId)) {
+                changes.add(new QuantityChange(inventoryId, delta, restocked.contains(inventoryId)));
+            }
+        });
+        int[] updated = inventoryJdbcRepository.adjustQuantities(changes, new Date());
+
+        Set<Long> conflicted = new HashSet<>();
+        for (int i = 0; i < changes.size(); i++) {
+            if (updated[i] == 0) {
+                conflicted.add(changes.get(i).inventoryId());
+            }
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            if (results[i].getStatus() == StockMovementStatus.APPLIED
+                    && conflicted.contains(results[i].getInventoryId())) {
+                results[i] = chunk.get(i).reject(StockMovementStatus.CONFLICT,
+                        "Остаток позиции изменен параллельно, движения по ней не применены");
+            }
+            response.addResult(results[i]);
+        }
+
+        response.getStockLevels().putAll(inventoryJdbcRepository.findQuantities(netDeltas.keySet()));
+    }
+
+    /**
+     * Сумма остатка и изменения; null, если она не помещается в int.
+     */
+    private static Integer addOrNull(int quantity, int delta) {
+        try {
+            return Math.addExact(quantity, delta);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Движение из запроса с его порядковым номером и ошибкой разбора, если она была.
+     */
+    private record Movement(int index, StockMovementDto dto, String error) {
+
+        boolean isValid() {
+            return dto != null && dto.getInventoryId() != null && dto.getDelta() != null;
+        }
+
+        StockMovementResultDto apply() {
+            return new StockMovementResultDto(index, dto.getInventoryId(), dto.getDelta(),
+                    StockMovementStatus.APPLIED, null);
+        }
+
+        StockMovementResultDto reject(StockMovementStatus status, String message) {
+            return new StockMovementResultDto(index,
+                    dto != null ? dto.getInventoryId() : null,
+                    dto != null ? dto.getDelta() : null,
+                    status, message);
+        }
+
+    }
+
+}
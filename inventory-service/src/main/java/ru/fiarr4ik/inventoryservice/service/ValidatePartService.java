@@ -6,24 +6,35 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import ru.fiarr4ik.inventoryservice.dto.PartBatchResponseDto;
 import ru.fiarr4ik.inventoryservice.dto.PartResponseDto;
 import ru.fiarr4ik.inventoryservice.exception.PartNotFoundException;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 @Service
 public class ValidatePartService {
 
+    private static final String DEPENDENCY = "part-service";
+    private static final String DEGRADED_HEADER = "X-Degraded";
+
     private final RestTemplate restTemplate;
+    private final ResilientCallService resilientCallService;
 
     @Autowired
-    public ValidatePartService(RestTemplate restTemplate) {
+    public ValidatePartService(RestTemplate restTemplate, ResilientCallService resilientCallService) {
         this.restTemplate = restTemplate;
+        this.resilientCallService = resilientCallService;
     }
 
     public void validatePartExist(Long partId) {
         String supplierServiceUrl = "http://part-service/api/parts/{partId}";
 
         try {
-            restTemplate.getForEntity(supplierServiceUrl, Void.class, partId);
+            resilientCallService.call(DEPENDENCY,
+                    () -> restTemplate.getForEntity(supplierServiceUrl, Void.class, partId));
         } catch (HttpClientErrorException.NotFound e) {
             throw new PartNotFoundException();
         } catch (RestClientException e) {
@@ -31,15 +42,50 @@ public class ValidatePartService {
         }
     }
 
-    public PartResponseDto getPartById(Long partId) {
-        ResponseEntity<PartResponseDto> response = restTemplate.getForEntity(
-                "http://part-service/api/parts/" + partId, PartResponseDto.class);
+    /**
+     * Получает запчасть с категорией и поставщиком.
+     *
+     * @param partId ID запчасти
+     * @return запчасть или null, если part-service недоступен; признак деградации, если part-service недоступен
+     *         или вернул запчасть без ответа сервиса категорий или поставщиков
+     */
+    public DegradableResult<PartResponseDto> getPartById(Long partId) {
+        ResponseEntity<PartResponseDto> response = resilientCallService.call(DEPENDENCY,
+                () -> restTemplate.getForEntity("http://part-service/api/parts/" + partId, PartResponseDto.class),
+                () -> null);
+        if (response == null) {
+            return new DegradableResult<>(null, true);
+        }
 
         if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
             throw new PartNotFoundException();
         }
 
-        return response.getBody();
+        return new DegradableResult<>(response.getBody(), response.getHeaders().containsKey(DEGRADED_HEADER));
+    }
+
+    /**
+     * Получает запчасти с категориями и поставщиками по набору ID одним запросом к part-service.
+     *
+     * @param partIds идентификаторы запчастей
+     * @return найденные запчасти по ID, отсутствующие ID в результат не попадают; признак деградации,
+     *         если part-service недоступен или сам ответил деградированными данными
+     */
+    public DegradableResult<Map<Long, PartResponseDto>> getPartsByIds(Collection<Long> partIds) {
+        if (partIds.isEmpty()) {
+            return new DegradableResult<>(Collections.emptyMap(), false);
+        }
+
+        PartBatchResponseDto response = resilientCallService.call(DEPENDENCY,
+                () -> restTemplate.postForObject(
+                        "http://part-service/api/parts/batch", partIds, PartBatchResponseDto.class),
+                () -> null);
+
+        if (response == null) {
+            return new DegradableResult<>(Collections.emptyMap(), true);
+        }
+        Map<Long, PartResponseDto> found = response.getFound() == null ? Collections.emptyMap() : response.getFound();
+        return new DegradableResult<>(found, response.isDegraded());
     }
 
 }
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS inventory
+(
+    inventory_id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    part_id           BIGINT,
+    quantity_in_stock INTEGER NOT NULL,
+    last_restock_date TIMESTAMP(6)
+);
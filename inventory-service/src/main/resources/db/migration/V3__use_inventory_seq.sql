@@ -0,0 +1,3 @@
+CREATE SEQUENCE IF NOT EXISTS inventory_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('inventory_seq', COALESCE((SELECT MAX(inventory_id) FROM inventory), 0) + 50, false);
+ALTER TABLE inventory ALTER COLUMN inventory_id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,90 @@
+package ru.fiarr4ik.inventoryservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.fiarr4ik.inventoryservice.dto.StockLevelResponseDto;
+import ru.fiarr4ik.inventoryservice.entity.Inventory;
+import ru.fiarr4ik.inventoryservice.exception.InsufficientStockException;
+import ru.fiarr4ik.inventoryservice.exception.InventoryNotFoundException;
+import ru.fiarr4ik.inventoryservice.mapper.InventoryMapperImpl;
+import ru.fiarr4ik.inventoryservice.repository.InventoryRepository;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Изменение остатка одним UPDATE с условием: остаток не уходит в минус, а отсутствующая позиция
+ * и недостаток остатка различаются (404 и 409 в API). Схема создается миграциями сервиса.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.table=inventory_schema_history",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({InventoryService.class, InventoryMappingService.class, InventoryMapperImpl.class})
+@Testcontainers(disabledWithoutDocker = true)
+class InventoryAdjustStockTest {
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @MockBean
+    private ValidatePartService validatePartService;
+
+    @Test
+    void writeOffWithinStockIsApplied() {
+        Long id = save(5);
+
+        StockLevelResponseDto stockLevel = inventoryService.adjustStock(id, -5);
+
+        assertThat(stockLevel.getQuantityInStock()).isZero();
+    }
+
+    @Test
+    void writeOffBeyondStockLeavesRowUnchanged() {
+        Long id = save(5);
+
+        assertThat(inventoryRepository.adjustQuantity(id, -6, new Date())).isZero();
+        assertThat(inventoryRepository.findById(id).orElseThrow().getQuantityInStock()).isEqualTo(5);
+    }
+
+    @Test
+    void writeOffBeyondStockIsConflict() {
+        Long id = save(5);
+
+        assertThatThrownBy(() -> inventoryService.adjustStock(id, -6))
+                .isInstanceOf(InsufficientStockException.class);
+    }
+
+    @Test
+    void missingItemIsNotFound() {
+        assertThatThrownBy(() -> inventoryService.adjustStock(Long.MAX_VALUE, 1))
+                .isInstanceOf(InventoryNotFoundException.class);
+    }
+
+    private Long save(int quantity) {
+        Inventory inventory = new Inventory();
+        inventory.setPartId(1L);
+        inventory.setQuantityInStock(quantity);
+        return inventoryRepository.saveAndFlush(inventory).getInventoryId();
+    }
+
+}
@@ -0,0 +1,188 @@
+package ru.fiarr4ik.inventoryservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementBatchResponseDto;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementDto;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementResultDto;
+import ru.fiarr4ik.inventoryservice.dto.StockMovementStatus;
+import ru.fiarr4ik.inventoryservice.repository.InventoryJdbcRepository;
+import ru.fiarr4ik.inventoryservice.repository.InventoryJdbcRepository.QuantityChange;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Применение пакета движений к остаткам в Postgres: порядок проверки движений одной позиции, сворачивание
+ * движений в один UPDATE, отказ охранного UPDATE и защита от переполнения остатка.
+ * Схема создается миграциями сервиса.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class StockMovementServiceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private RecordingJdbcRepository repository;
+    private StockMovementService stockMovementService;
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .table("inventory_schema_history")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE inventory");
+        repository = new RecordingJdbcRepository(new NamedParameterJdbcTemplate(dataSource));
+        stockMovementService = new StockMovementService(repository,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), new ObjectMapper());
+    }
+
+    @Test
+    void movementsOfOneItemAreCheckedInRequestOrder() {
+        insert(1L, 5);
+
+        StockMovementBatchResponseDto response = stockMovementService.applyMovements(List.of(
+                movement(1L, -3), movement(1L, -3), movement(1L, 2), movement(1L, -3)));
+
+        assertThat(statuses(response)).containsExactly(StockMovementStatus.APPLIED,
+                StockMovementStatus.INSUFFICIENT_STOCK, StockMovementStatus.APPLIED, StockMovementStatus.APPLIED);
+        assertThat(response.getApplied()).isEqualTo(3);
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(quantity(1L)).isEqualTo(1);
+        assertThat(response.getStockLevels()).containsEntry(1L, 1);
+    }
+
+    @Test
+    void movementsOfOneItemAreCoalescedIntoOneUpdate() {
+        insert(1L, 10);
+        insert(2L, 10);
+
+        stockMovementService.applyMovements(List.of(
+                movement(2L, -2), movement(1L, 5), movement(2L, -3), movement(2L, 1)));
+
+        assertThat(repository.batches).hasSize(1);
+        assertThat(repository.batches.get(0)).containsExactly(
+                new QuantityChange(1L, 5, true),
+                new QuantityChange(2L, -4, true));
+        assertThat(quantity(1L)).isEqualTo(15);
+        assertThat(quantity(2L)).isEqualTo(6);
+        assertThat(version(1L)).isEqualTo(1L);
+        assertThat(version(2L)).isEqualTo(1L);
+    }
+
+    @Test
+    void guardedUpdateThatMatchesNoRowIsReportedAsConflict() {
+        insert(1L, 1);
+        insert(2L, 3);
+        repository.staleQuantities.put(1L, 10);
+
+        StockMovementBatchResponseDto response = stockMovementService.applyMovements(List.of(
+                movement(1L, -5), movement(2L, -1)));
+
+        assertThat(statuses(response)).containsExactly(StockMovementStatus.CONFLICT, StockMovementStatus.APPLIED);
+        assertThat(quantity(1L)).isEqualTo(1);
+        assertThat(quantity(2L)).isEqualTo(2);
+        assertThat(version(1L)).isZero();
+    }
+
+    @Test
+    void restockBeyondIntRangeIsRejected() {
+        insert(1L, Integer.MAX_VALUE - 1);
+
+        StockMovementBatchResponseDto response = stockMovementService.applyMovements(List.of(
+                movement(1L, 5), movement(1L, -1)));
+
+        assertThat(statuses(response)).containsExactly(StockMovementStatus.INVALID, StockMovementStatus.APPLIED);
+        assertThat(quantity(1L)).isEqualTo(Integer.MAX_VALUE - 2);
+    }
+
+    @Test
+    void updateGuardSkipsRowInsteadOfOverflowing() {
+        insert(1L, Integer.MAX_VALUE - 1);
+
+        int[] updated = repository.adjustQuantities(List.of(new QuantityChange(1L, 5, true)), new Date());
+
+        assertThat(updated).containsExactly(0);
+        assertThat(quantity(1L)).isEqualTo(Integer.MAX_VALUE - 1);
+    }
+
+    private static StockMovementDto movement(Long inventoryId, int delta) {
+        return new StockMovementDto(inventoryId, delta);
+    }
+
+    private static List<StockMovementStatus> statuses(StockMovementBatchResponseDto response) {
+        return response.getResults().stream().map(StockMovementResultDto::getStatus).toList();
+    }
+
+    private static void insert(Long inventoryId, int quantity) {
+        jdbcTemplate.update("INSERT INTO inventory (inventory_id, part_id, quantity_in_stock) VALUES (?, ?, ?)",
+                inventoryId, inventoryId, quantity);
+    }
+
+    private static int quantity(Long inventoryId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT quantity_in_stock FROM inventory WHERE inventory_id = ?", Integer.class, inventoryId);
+    }
+
+    private static long version(Long inventoryId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT version FROM inventory WHERE inventory_id = ?", Long.class, inventoryId);
+    }
+
+    /**
+     * Запоминает пакеты изменений и может вернуть устаревший остаток вместо заблокированного,
+     * как если бы строку изменили в обход блокировки.
+     */
+    private static class RecordingJdbcRepository extends InventoryJdbcRepository {
+
+        private final List<List<QuantityChange>> batches = new ArrayList<>();
+        private final Map<Long, Integer> staleQuantities = new HashMap<>();
+
+        RecordingJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public Map<Long, Integer> lockQuantities(Collection<Long> inventoryIds) {
+            Map<Long, Integer> quantities = new HashMap<>(super.lockQuantities(inventoryIds));
+            quantities.putAll(staleQuantities);
+            return quantities;
+        }
+
+        @Override
+        public int[] adjustQuantities(List<QuantityChange> changes, Date now) {
+            batches.add(List.copyOf(changes));
+            return super.adjustQuantities(changes, now);
+        }
+
+    }
+
+}
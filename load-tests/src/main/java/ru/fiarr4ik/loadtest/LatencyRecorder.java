@@ -0,0 +1,73 @@
+package ru.fiarr4ik.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Распределения задержек по адресам. Задержка отсчитывается от запланированного момента отправки,
+ * поэтому ожидание в самом генераторе тоже попадает в измерение (без coordinated omission).
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint     шаблон адреса
+     * @param latencyNanos время от запланированной отправки до получения ответа
+     * @param success      получен ли ответ без ошибки (статус ниже 400)
+     */
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        stats.histogram().recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            stats.errors().increment();
+        }
+    }
+
+    /**
+     * Сводка по адресам, упорядоченным по имени.
+     *
+     * @param durationSeconds длительность измерения для расчета пропускной способности
+     */
+    public Map<String, LoadTestReport.EndpointResult> summarize(double durationSeconds) {
+        Map<String, LoadTestReport.EndpointResult> results = new TreeMap<>();
+        endpoints.forEach((endpoint, stats) -> {
+            Histogram histogram = stats.histogram().copy();
+            long requests = histogram.getTotalCount();
+            results.put(endpoint, new LoadTestReport.EndpointResult(
+                    requests,
+                    stats.errors().sum(),
+                    round(requests / durationSeconds, 10),
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue())));
+        });
+        return results;
+    }
+
+    private static double toMillis(long micros) {
+        return round(micros / 1000.0, 1000);
+    }
+
+    private static double round(double value, int scale) {
+        return Math.round(value * scale) / (double) scale;
+    }
+
+    private record EndpointStats(ConcurrentHistogram histogram, LongAdder errors) {
+
+        EndpointStats() {
+            this(new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3), new LongAdder());
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package ru.fiarr4ik.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Профиль нагрузки, читаемый из YAML-файла.
+ */
+@Getter
+@Setter
+public class LoadTestPlan {
+
+    /**
+     * Адрес шлюза, через который идут все запросы.
+     */
+    private String baseUrl = "http://localhost:8080";
+
+    /**
+     * Время прогрева: запросы, отправленные в этот период, в отчет не попадают.
+     */
+    private Duration warmup = Duration.ofSeconds(15);
+
+    /**
+     * Время измерения после прогрева.
+     */
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * Таймаут одного запроса; запрос, не уложившийся в него, считается ошибкой.
+     */
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    private List<ScenarioPlan> scenarios = new ArrayList<>();
+
+    /**
+     * Сценарий и интенсивность его запросов.
+     */
+    @Getter
+    @Setter
+    public static class ScenarioPlan {
+
+        private String name;
+
+        /**
+         * Среднее число запросов в секунду.
+         */
+        private double rate;
+
+        /**
+         * Размер пакета для сценариев с пакетными запросами: движений в одном запросе или строк в одном импорте.
+         */
+        private int batchSize = 100;
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package ru.fiarr4ik.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Результат прогона. Сохраняется в JSON с упорядоченными ключами, поэтому отчеты двух сборок
+ * можно сравнить обычным diff или командой {@code compare}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestReport {
+
+    private String plan;
+
+    private long durationSeconds;
+
+    private Map<String, EndpointResult> endpoints = new TreeMap<>();
+
+    /**
+     * Показатели одного адреса за время измерения.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EndpointResult {
+
+        private long requests;
+
+        private long errors;
+
+        /**
+         * Завершенных запросов в секунду.
+         */
+        private double throughput;
+
+        private double p50Ms;
+
+        private double p99Ms;
+
+        private double p999Ms;
+
+        private double maxMs;
+
+    }
+
+}
@@ -0,0 +1,142 @@
+package ru.fiarr4ik.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ru.fiarr4ik.loadtest.scenario.Scenario;
+import ru.fiarr4ik.loadtest.scenario.Scenarios;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Точка входа нагрузочного теста.
+ * <pre>
+ * run &lt;profile.yml&gt; [--launch-stack] [--project-dir .] [--output load-test-result.json]
+ * compare &lt;baseline.json&gt; &lt;current.json&gt; [--threshold 10]
+ * </pre>
+ * <p>{@code run} подает нагрузку по профилю на шлюз (с {@code --launch-stack} — на локальный стенд,
+ * запущенный из собранных архивов) и сохраняет отчет. {@code compare} сравнивает два отчета и завершается
+ * с кодом 1, если какой-либо адрес ухудшился сверх порога.</p>
+ */
+public final class LoadTestRunner {
+
+    private static final String DEFAULT_JWT_SECRET = "xenon-diplom-dev-secret-change-me-in-prod";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            usage();
+            return;
+        }
+        Map<String, String> options = options(args);
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+        switch (args[0]) {
+            case "run" -> run(Path.of(args[1]), options, json);
+            case "compare" -> {
+                if (args.length < 3) {
+                    usage();
+                    return;
+                }
+                LoadTestReport baseline = json.readValue(Path.of(args[1]).toFile(), LoadTestReport.class);
+                LoadTestReport current = json.readValue(Path.of(args[2]).toFile(), LoadTestReport.class);
+                double threshold = Double.parseDouble(options.getOrDefault("threshold", "10"));
+                if (new ReportComparator(threshold).compare(baseline, current)) {
+                    System.exit(1);
+                }
+            }
+            default -> usage();
+        }
+    }
+
+    private static void run(Path planFile, Map<String, String> options, ObjectMapper json) throws Exception {
+        LoadTestPlan plan = new ObjectMapper(new YAMLFactory())
+                .registerModule(new JavaTimeModule())
+                .readValue(planFile.toFile(), LoadTestPlan.class);
+        String jwtSecret = System.getenv().getOrDefault("JWT_SECRET", DEFAULT_JWT_SECRET);
+        Path output = Path.of(options.getOrDefault("output", "load-test-result.json"));
+
+        LocalStack stack = null;
+        if (options.containsKey("launch-stack")) {
+            Path projectDir = Path.of(options.getOrDefault("project-dir", "."));
+            stack = new LocalStack(projectDir, projectDir.resolve("load-tests/target/logs"), jwtSecret);
+            Runtime.getRuntime().addShutdownHook(new Thread(closer(stack)));
+            stack.start();
+        }
+
+        try {
+            StackClient client = new StackClient(plan.getBaseUrl(), plan.getRequestTimeout(), jwtSecret, json);
+            Scenarios scenarios = new Scenarios(client);
+            List<OpenModelLoadGenerator.ScenarioLoad> loads = new ArrayList<>();
+            for (LoadTestPlan.ScenarioPlan scenarioPlan : plan.getScenarios()) {
+                Scenario scenario = scenarios.create(scenarioPlan);
+                scenario.prepare();
+                loads.add(new OpenModelLoadGenerator.ScenarioLoad(
+                        scenarioPlan.getName(), scenario, scenarioPlan.getRate()));
+            }
+
+            System.out.println("Прогрев " + plan.getWarmup().toSeconds() + " с, измерение "
+                    + plan.getDuration().toSeconds() + " с");
+            LatencyRecorder recorder = new LatencyRecorder();
+            new OpenModelLoadGenerator(client.httpClient(), recorder)
+                    .run(loads, plan.getWarmup(), plan.getDuration(), plan.getRequestTimeout());
+
+            LoadTestReport report = new LoadTestReport(
+                    planFile.getFileName().toString(),
+                    plan.getDuration().toSeconds(),
+                    recorder.summarize(plan.getDuration().toMillis() / 1000.0));
+            json.writeValue(output.toFile(), report);
+            ReportComparator.print(report);
+            System.out.println("Отчет сохранен в " + output.toAbsolutePath());
+        } finally {
+            if (stack != null) {
+                stack.close();
+            }
+        }
+    }
+
+    private static Runnable closer(LocalStack stack) {
+        return () -> {
+            try {
+                stack.close();
+            } catch (IOException | InterruptedException e) {
+                System.err.println("Не удалось остановить стенд: " + e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Ключи вида {@code --name value}; ключ без значения считается флагом.
+     */
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                continue;
+            }
+            String name = args[i].substring(2);
+            boolean hasValue = i + 1 < args.length && !args[i + 1].startsWith("--");
+            options.put(name, hasValue ? args[++i] : "true");
+        }
+        return options;
+    }
+
+    private static void usage() {
+        System.out.println("""
+                Использование:
+                  run <profile.yml> [--launch-stack] [--project-dir <каталог проекта>] [--output <отчет.json>]
+                  compare <baseline.json> <current.json> [--threshold <процент>]""");
+    }
+
+}
@@ -0,0 +1,178 @@
+package ru.fiarr4ik.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Локальный стенд без Docker и Eureka: встроенный Postgres и сервисы в отдельных процессах.
+ * <p>Сервисы запускаются из исполняемых архивов сборки с профилем test (схема и начальные данные создаются
+ * при старте). Вместо Eureka адреса сервисов передаются в простой discovery-клиент Spring Cloud, которым
+ * пользуются и балансировщик RestTemplate/Feign, и маршруты шлюза.</p>
+ */
+public class LocalStack implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final String DATABASE = "xenon_diplom";
+
+    /**
+     * Сервисы и их порты по умолчанию в порядке запуска.
+     */
+    private static final Map<String, Integer> SERVICES = new LinkedHashMap<>();
+
+    static {
+        SERVICES.put("category-service", 8082);
+        SERVICES.put("supplier-service", 8081);
+        SERVICES.put("part-service", 8083);
+        SERVICES.put("inventory-service", 8084);
+        SERVICES.put("gateway-service", 8080);
+    }
+
+    private final Path projectDir;
+    private final Path logDir;
+    private final String jwtSecret;
+    private final List<Process> processes = new ArrayList<>();
+    private EmbeddedPostgres postgres;
+
+    public LocalStack(Path projectDir, Path logDir, String jwtSecret) {
+        this.projectDir = projectDir;
+        this.logDir = logDir;
+        this.jwtSecret = jwtSecret;
+    }
+
+    /**
+     * Запускает Postgres и все сервисы и ждет, пока каждый начнет принимать запросы.
+     */
+    public void start() throws IOException, InterruptedException {
+        Files.createDirectories(logDir);
+        postgres = EmbeddedPostgres.builder().start();
+        createDatabase(postgres.getPostgresDatabase());
+        String jdbcUrl = postgres.getJdbcUrl("postgres", DATABASE) + "&reWriteBatchedInserts=true";
+
+        for (Map.Entry<String, Integer> service : SERVICES.entrySet()) {
+            processes.add(launch(service.getKey(), service.getValue(), jdbcUrl));
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        int index = 0;
+        for (Map.Entry<String, Integer> service : SERVICES.entrySet()) {
+            awaitReady(httpClient, service.getKey(), service.getValue(), processes.get(index++));
+        }
+    }
+
+    private static void createDatabase(DataSource dataSource) throws IOException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + DATABASE);
+        } catch (SQLException e) {
+            throw new IOException("Не удалось создать базу " + DATABASE, e);
+        }
+    }
+
+    private Process launch(String service, int port, String jdbcUrl) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", findJar(service).toString(),
+                "--server.port=" + port,
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.show-sql=false",
+                "--security.jwt.secret=" + jwtSecret,
+                "--eureka.client.enabled=false"));
+        SERVICES.forEach((name, servicePort) -> command.add(
+                "--spring.cloud.discovery.client.simple.instances." + name + "[0].uri=http://localhost:" + servicePort));
+
+        Path log = logDir.resolve(service + ".log");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    /**
+     * Ищет исполняемый архив сервиса в target: с классификатором exec, если он есть, иначе основной.
+     */
+    private Path findJar(String service) throws IOException {
+        Path target = projectDir.resolve(service).resolve("target");
+        if (!Files.isDirectory(target)) {
+            throw new IOException("Нет " + target + "; соберите сервисы командой mvn -B package -DskipTests");
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            List<Path> jars = files
+                    .filter(file -> file.getFileName().toString().startsWith(service + "-"))
+                    .filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .sorted((left, right) -> Boolean.compare(
+                            right.getFileName().toString().endsWith("-exec.jar"),
+                            left.getFileName().toString().endsWith("-exec.jar")))
+                    .toList();
+            if (jars.isEmpty()) {
+                throw new IOException("В " + target + " нет исполняемого архива " + service);
+            }
+            return jars.get(0);
+        }
+    }
+
+    /**
+     * Веб-сервер Spring Boot открывает порт после создания контекста, поэтому любой HTTP-ответ означает готовность.
+     */
+    private void awaitReady(HttpClient httpClient, String service, int port, Process process)
+            throws IOException, InterruptedException {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException(service + " завершился при запуске, см. " + logDir.resolve(service + ".log"));
+            }
+            try {
+                httpClient.send(probe, HttpResponse.BodyHandlers.discarding());
+                System.out.println(service + " запущен на порту " + port);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IOException(service + " не запустился за " + STARTUP_TIMEOUT.toSeconds() + " с, см. "
+                + logDir.resolve(service + ".log"));
+    }
+
+    /**
+     * Останавливает сервисы в обратном порядке и Postgres. Повторный вызов ничего не делает.
+     */
+    @Override
+    public synchronized void close() throws IOException, InterruptedException {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+        if (postgres != null) {
+            postgres.close();
+            postgres = null;
+        }
+    }
+
+}
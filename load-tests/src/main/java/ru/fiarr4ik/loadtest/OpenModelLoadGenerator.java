@@ -0,0 +1,102 @@
+package ru.fiarr4ik.loadtest;
+
+import ru.fiarr4ik.loadtest.scenario.Scenario;
+import ru.fiarr4ik.loadtest.scenario.ScenarioRequest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * Генератор нагрузки с открытой моделью поступления запросов.
+ * <p>Моменты отправки каждого сценария образуют пуассоновский поток с заданной средней интенсивностью
+ * и не зависят от того, ответил ли сервис на предыдущие запросы. Запросы отправляются асинхронно,
+ * поэтому медленные ответы увеличивают число одновременных запросов, а не снижают нагрузку.</p>
+ */
+public class OpenModelLoadGenerator {
+
+    private final HttpClient httpClient;
+    private final LatencyRecorder recorder;
+
+    public OpenModelLoadGenerator(HttpClient httpClient, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Подает нагрузку всех сценариев одновременно и ждет завершения отправленных запросов.
+     *
+     * @param scenarios      сценарии и их интенсивность, запросов в секунду
+     * @param warmup         время прогрева; ответы на запросы, запланированные в этот период, не учитываются
+     * @param duration       время измерения
+     * @param requestTimeout сколько ждать ответов на последние запросы после окончания нагрузки
+     */
+    public void run(List<ScenarioLoad> scenarios, Duration warmup, Duration duration, Duration requestTimeout)
+            throws InterruptedException {
+        AtomicLong inFlight = new AtomicLong();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        List<Thread> threads = new ArrayList<>();
+        for (ScenarioLoad load : scenarios) {
+            threads.add(Thread.ofPlatform()
+                    .name("arrivals-" + load.name())
+                    .start(() -> generate(load, start, measureFrom, end, inFlight)));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long deadline = System.nanoTime() + requestTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        if (inFlight.get() > 0) {
+            System.err.println("Не дождались ответов на " + inFlight.get() + " запросов");
+        }
+    }
+
+    private void generate(ScenarioLoad load, long start, long measureFrom, long end, AtomicLong inFlight) {
+        RandomGenerator random = new SplittableRandom();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / load.rate();
+        long intended = start;
+        while (true) {
+            intended += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+            if (intended >= end) {
+                return;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            long scheduledAt = intended;
+            boolean measured = scheduledAt >= measureFrom;
+            ScenarioRequest request = load.scenario().next(random);
+            inFlight.incrementAndGet();
+            httpClient.sendAsync(request.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (measured) {
+                            boolean success = error == null && response.statusCode() < 400;
+                            recorder.record(request.endpoint(), System.nanoTime() - scheduledAt, success);
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+    }
+
+    /**
+     * Сценарий с интенсивностью его запросов.
+     */
+    public record ScenarioLoad(String name, Scenario scenario, double rate) {
+    }
+
+}
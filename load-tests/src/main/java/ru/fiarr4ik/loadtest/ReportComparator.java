@@ -0,0 +1,81 @@
+package ru.fiarr4ik.loadtest;
+
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Сравнение двух отчетов: изменение p99 и пропускной способности по каждому адресу.
+ */
+public class ReportComparator {
+
+    private final double thresholdPercent;
+
+    /**
+     * @param thresholdPercent допустимый рост p99 и падение пропускной способности, в процентах
+     */
+    public ReportComparator(double thresholdPercent) {
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    /**
+     * Печатает таблицу изменений.
+     *
+     * @return true, если хотя бы один адрес ухудшился сверх порога, появились ошибки или адрес пропал из отчета
+     */
+    public boolean compare(LoadTestReport baseline, LoadTestReport current) {
+        boolean regressed = false;
+        System.out.printf("%-55s %12s %12s %9s %12s %12s %9s%n",
+                "Адрес", "p99 было", "p99 стало", "Δ%", "rps было", "rps стало", "Δ%");
+
+        TreeSet<String> endpoints = new TreeSet<>(baseline.getEndpoints().keySet());
+        endpoints.addAll(current.getEndpoints().keySet());
+        for (String endpoint : endpoints) {
+            LoadTestReport.EndpointResult before = baseline.getEndpoints().get(endpoint);
+            LoadTestReport.EndpointResult after = current.getEndpoints().get(endpoint);
+            if (before == null) {
+                System.out.printf("%-55s новый адрес%n", endpoint);
+                continue;
+            }
+            if (after == null) {
+                System.out.printf("%-55s отсутствует в текущем отчете%n", endpoint);
+                regressed = true;
+                continue;
+            }
+
+            double latencyChange = change(before.getP99Ms(), after.getP99Ms());
+            double throughputChange = change(before.getThroughput(), after.getThroughput());
+            boolean worse = latencyChange > thresholdPercent
+                    || throughputChange < -thresholdPercent
+                    || errorRate(after) > errorRate(before);
+            regressed |= worse;
+            System.out.printf("%-55s %12.3f %12.3f %+8.1f%% %12.1f %12.1f %+8.1f%%%s%n",
+                    endpoint, before.getP99Ms(), after.getP99Ms(), latencyChange,
+                    before.getThroughput(), after.getThroughput(), throughputChange,
+                    worse ? "  РЕГРЕССИЯ" : "");
+        }
+        return regressed;
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static double errorRate(LoadTestReport.EndpointResult result) {
+        return result.getRequests() == 0 ? 0 : (double) result.getErrors() / result.getRequests();
+    }
+
+    /**
+     * Печатает сводку одного отчета.
+     */
+    public static void print(LoadTestReport report) {
+        System.out.printf("%-55s %9s %7s %10s %10s %10s %10s %10s%n",
+                "Адрес", "запросов", "ошибок", "rps", "p50 мс", "p99 мс", "p999 мс", "max мс");
+        for (Map.Entry<String, LoadTestReport.EndpointResult> entry : report.getEndpoints().entrySet()) {
+            LoadTestReport.EndpointResult result = entry.getValue();
+            System.out.printf("%-55s %9d %7d %10.1f %10.3f %10.3f %10.3f %10.3f%n",
+                    entry.getKey(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                    result.getP50Ms(), result.getP99Ms(), result.getP999Ms(), result.getMaxMs());
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package ru.fiarr4ik.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP-клиент нагрузочного теста: строит запросы к шлюзу с токеном доступа и выполняет подготовительные запросы.
+ * <p>Токен подписывается тем же секретом HS256, что проверяют сервисы, поэтому security-service для теста не нужен.</p>
+ */
+public class StackClient {
+
+    private static final String TOKEN_ISSUER = "security-service";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final String authorization;
+
+    public StackClient(String baseUrl, Duration requestTimeout, String jwtSecret, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.authorization = "Bearer " + issueToken(jwtSecret, requestTimeout);
+    }
+
+    public HttpClient httpClient() {
+        return httpClient;
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Начинает запрос к шлюзу с заголовком Authorization.
+     *
+     * @param path путь и параметры запроса, начиная с имени сервиса: {@code /part-service/api/parts}
+     */
+    public HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Authorization", authorization);
+    }
+
+    /**
+     * Выполняет подготовительный запрос и возвращает тело ответа.
+     *
+     * @throws IOException если сервис ответил ошибкой
+     */
+    public String send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IOException(request.method() + " " + request.uri() + " вернул " + response.statusCode()
+                    + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    /**
+     * Выпускает токен на все время теста: срок действия с запасом покрывает прогон любой длины.
+     */
+    private String issueToken(String secret, Duration requestTimeout) {
+        Instant now = Instant.now();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", TOKEN_ISSUER);
+        claims.put("sub", "load-test");
+        claims.put("iat", now.getEpochSecond());
+        claims.put("exp", now.plus(Duration.ofDays(1)).plus(requestTimeout).getEpochSecond());
+
+        try {
+            Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+            String header = encoder.encodeToString(
+                    objectMapper.writeValueAsBytes(Map.of("alg", "HS256", "typ", "JWT")));
+            String payload = encoder.encodeToString(objectMapper.writeValueAsBytes(claims));
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] signature = mac.doFinal((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+            return header + "." + payload + "." + encoder.encodeToString(signature);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Не удалось выпустить токен для нагрузочного теста", e);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package ru.fiarr4ik.loadtest.scenario;
+
+import ru.fiarr4ik.loadtest.StackClient;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Просмотр каталога: страницы и карточки запчастей, поиск, справочники категорий и поставщиков.
+ * Доли запросов соответствуют типичной сессии: в основном списки и карточки, реже поиск и справочники.
+ */
+public class CatalogBrowsingScenario implements Scenario {
+
+    private static final int SEEDED_PART_COUNT = 20;
+
+    private static final List<String> SEARCH_QUERIES = List.of(
+            "картридж", "плата", "кабель hdmi", "монитор", "ноутбук dell", "сканер", "hp", "canon",
+            "epson", "logitech", "блок питания", "картрдж", "монитр", "роутер");
+
+    private final StackClient client;
+
+    public CatalogBrowsingScenario(StackClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public ScenarioRequest next(RandomGenerator random) {
+        int choice = random.nextInt(100);
+        if (choice < 40) {
+            return get("GET /part-service/api/parts", "/part-service/api/parts?limit=50");
+        }
+        if (choice < 65) {
+            long id = random.nextLong(1, SEEDED_PART_COUNT + 1);
+            return get("GET /part-service/api/parts/{id}", "/part-service/api/parts/" + id);
+        }
+        if (choice < 80) {
+            String query = SEARCH_QUERIES.get(random.nextInt(SEARCH_QUERIES.size()));
+            return get("GET /part-service/api/parts/search",
+                    "/part-service/api/parts/search?size=20&q=" + URLEncoder.encode(query, StandardCharsets.UTF_8));
+        }
+        if (choice < 90) {
+            return get("GET /category-service/api/categories", "/category-service/api/categories?limit=50");
+        }
+        return get("GET /supplier-service/api/suppliers", "/supplier-service/api/suppliers?limit=50");
+    }
+
+    private ScenarioRequest get(String endpoint, String path) {
+        return new ScenarioRequest(endpoint, client.request(path).GET().build());
+    }
+
+}
@@ -0,0 +1,63 @@
+package ru.fiarr4ik.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import ru.fiarr4ik.loadtest.StackClient;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Позиции склада для сценариев инвентаря. Если склад пуст, создается по позиции на каждую запчасть
+ * из начальных данных part-service с большим остатком, чтобы списания в тесте не упирались в нехватку.
+ */
+public class InventoryFixture {
+
+    private static final int SEEDED_PART_COUNT = 20;
+    private static final int INITIAL_QUANTITY = 1_000_000;
+
+    private final StackClient client;
+    private volatile List<Long> inventoryIds;
+
+    public InventoryFixture(StackClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Возвращает ID позиций склада, при первом вызове на пустом складе создавая их.
+     */
+    public synchronized List<Long> inventoryIds() throws IOException, InterruptedException {
+        if (inventoryIds != null) {
+            return inventoryIds;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        JsonNode page = client.objectMapper().readTree(client.send(
+                client.request("/inventory-service/api/inventories?limit=500").GET().build()));
+        for (JsonNode item : page.path("items")) {
+            ids.add(item.path("inventoryId").asLong());
+        }
+
+        if (ids.isEmpty()) {
+            for (long partId = 1; partId <= SEEDED_PART_COUNT; partId++) {
+                ids.add(create(partId));
+            }
+        }
+
+        inventoryIds = List.copyOf(ids);
+        return inventoryIds;
+    }
+
+    private long create(long partId) throws IOException, InterruptedException {
+        byte[] body = client.objectMapper().writeValueAsBytes(
+                Map.of("partId", partId, "quantityInStock", INITIAL_QUANTITY));
+        String response = client.send(client.request("/inventory-service/api/inventories")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build());
+        return client.objectMapper().readTree(response).path("inventoryId").asLong();
+    }
+
+}
@@ -0,0 +1,39 @@
+package ru.fiarr4ik.loadtest.scenario;
+
+import ru.fiarr4ik.loadtest.StackClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Просмотр склада: страницы позиций с данными запчастей и отдельные позиции.
+ */
+public class InventoryListingScenario implements Scenario {
+
+    private final StackClient client;
+    private final InventoryFixture fixture;
+    private List<Long> inventoryIds;
+
+    public InventoryListingScenario(StackClient client, InventoryFixture fixture) {
+        this.client = client;
+        this.fixture = fixture;
+    }
+
+    @Override
+    public void prepare() throws IOException, InterruptedException {
+        inventoryIds = fixture.inventoryIds();
+    }
+
+    @Override
+    public ScenarioRequest next(RandomGenerator random) {
+        if (random.nextInt(100) < 70) {
+            return new ScenarioRequest("GET /inventory-service/api/inventories",
+                    client.request("/inventory-service/api/inventories?limit=50").GET().build());
+        }
+        long id = inventoryIds.get(random.nextInt(inventoryIds.size()));
+        return new ScenarioRequest("GET /inventory-service/api/inventories/{id}",
+                client.request("/inventory-service/api/inventories/" + id).GET().build());
+    }
+
+}
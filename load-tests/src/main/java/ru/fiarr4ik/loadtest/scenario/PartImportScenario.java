@@ -0,0 +1,47 @@
+package ru.fiarr4ik.loadtest.scenario;
+
+import ru.fiarr4ik.loadtest.StackClient;
+
+import java.net.http.HttpRequest;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Импорт прайс-листа поставщика в CSV: каждый запрос добавляет {@code batchSize} новых запчастей
+ * со ссылками на категории и поставщиков из начальных данных.
+ */
+public class PartImportScenario implements Scenario {
+
+    private static final int SEEDED_REFERENCE_COUNT = 20;
+
+    private final StackClient client;
+    private final int batchSize;
+    private final AtomicLong importCounter = new AtomicLong();
+
+    public PartImportScenario(StackClient client, int batchSize) {
+        this.client = client;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ScenarioRequest next(RandomGenerator random) {
+        long importNumber = importCounter.incrementAndGet();
+        StringBuilder csv = new StringBuilder("name,description,categoryId,supplierId,unitPrice\n");
+        for (int line = 1; line <= batchSize; line++) {
+            csv.append("Нагрузочная запчасть ").append(importNumber).append('-').append(line).append(',')
+                    .append("\"Импорт ").append(importNumber).append(", строка ").append(line).append("\",")
+                    .append(random.nextInt(1, SEEDED_REFERENCE_COUNT + 1)).append(',')
+                    .append(random.nextInt(1, SEEDED_REFERENCE_COUNT + 1)).append(',')
+                    .append(String.format(Locale.ROOT, "%.2f", random.nextDouble(100, 50_000)))
+                    .append('\n');
+        }
+
+        return new ScenarioRequest("POST /part-service/api/parts/import",
+                client.request("/part-service/api/parts/import")
+                        .header("Content-Type", "text/csv")
+                        .POST(HttpRequest.BodyPublishers.ofString(csv.toString()))
+                        .build());
+    }
+
+}
@@ -0,0 +1,25 @@
+package ru.fiarr4ik.loadtest.scenario;
+
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Сценарий нагрузки: источник запросов одного вида трафика.
+ */
+public interface Scenario {
+
+    /**
+     * Готовит данные, которые нужны запросам сценария. Вызывается один раз до начала нагрузки.
+     */
+    default void prepare() throws IOException, InterruptedException {
+    }
+
+    /**
+     * Строит очередной запрос. Вызывается из одного потока, отправляющего запросы сценария.
+     *
+     * @param random генератор случайных чисел потока сценария
+     * @return запрос
+     */
+    ScenarioRequest next(RandomGenerator random);
+
+}
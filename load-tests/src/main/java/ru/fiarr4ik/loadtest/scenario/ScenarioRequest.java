@@ -0,0 +1,13 @@
+package ru.fiarr4ik.loadtest.scenario;
+
+import java.net.http.HttpRequest;
+
+/**
+ * Запрос сценария.
+ *
+ * @param endpoint шаблон адреса без значений параметров, например {@code GET /part-service/api/parts/{id}};
+ *                 по нему группируется статистика в отчете
+ * @param request  HTTP-запрос
+ */
+public record ScenarioRequest(String endpoint, HttpRequest request) {
+}
@@ -0,0 +1,30 @@
+package ru.fiarr4ik.loadtest.scenario;
+
+import ru.fiarr4ik.loadtest.LoadTestPlan;
+import ru.fiarr4ik.loadtest.StackClient;
+
+/**
+ * Создание сценариев по именам из профиля нагрузки.
+ */
+public class Scenarios {
+
+    private final StackClient client;
+    private final InventoryFixture inventoryFixture;
+
+    public Scenarios(StackClient client) {
+        this.client = client;
+        this.inventoryFixture = new InventoryFixture(client);
+    }
+
+    public Scenario create(LoadTestPlan.ScenarioPlan plan) {
+        return switch (plan.getName()) {
+            case "catalog-browsing" -> new CatalogBrowsingScenario(client);
+            case "inventory-listing" -> new InventoryListingScenario(client, inventoryFixture);
+            case "stock-movements" -> new StockMovementScenario(client, inventoryFixture, plan.getBatchSize());
+            case "part-imports" -> new PartImportScenario(client, plan.getBatchSize());
+            default -> throw new IllegalArgumentException("Неизвестный сценарий: " + plan.getName()
+                    + "; доступны catalog-browsing, inventory-listing, stock-movements, part-imports");
+        };
+    }
+
+}
@@ -0,0 +1,56 @@
+package ru.fiarr4ik.loadtest.scenario;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import ru.fiarr4ik.loadtest.StackClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Пакеты движений склада: поступления и списания по случайным позициям, как при выгрузке из учетной системы.
+ */
+public class StockMovementScenario implements Scenario {
+
+    private final StackClient client;
+    private final InventoryFixture fixture;
+    private final int batchSize;
+    private List<Long> inventoryIds;
+
+    public StockMovementScenario(StackClient client, InventoryFixture fixture, int batchSize) {
+        this.client = client;
+        this.fixture = fixture;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void prepare() throws IOException, InterruptedException {
+        inventoryIds = fixture.inventoryIds();
+    }
+
+    @Override
+    public ScenarioRequest next(RandomGenerator random) {
+        List<Map<String, Object>> movements = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            long inventoryId = inventoryIds.get(random.nextInt(inventoryIds.size()));
+            int delta = random.nextInt(100) < 70 ? random.nextInt(1, 10) : -random.nextInt(1, 5);
+            movements.add(Map.of("inventoryId", inventoryId, "delta", delta));
+        }
+
+        try {
+            byte[] body = client.objectMapper().writeValueAsBytes(movements);
+            return new ScenarioRequest("POST /inventory-service/api/inventories/movements",
+                    client.request("/inventory-service/api/inventories/movements")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                            .build());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package ru.fiarr4ik.partservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.fiarr4ik.partservice.dto.CategoryDto;
+import ru.fiarr4ik.partservice.dto.SupplierDto;
+
+import java.time.Duration;
+
+/**
+ * Локальные кэши категорий и поставщиков, которыми обогащаются запчасти.
+ * <p>Записи вытесняются по размеру и по TTL, а также явно — по событиям
+ * изменения из category-service и supplier-service.</p>
+ */
+@Configuration
+public class ReferenceCacheConfig {
+
+    @Value("${reference-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${reference-cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    @Bean
+    public Cache<Long, CategoryDto> categoryCache(MeterRegistry meterRegistry) {
+        Cache<Long, CategoryDto> cache = newCache();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "categories");
+        return cache;
+    }
+
+    @Bean
+    public Cache<Long, SupplierDto> supplierCache(MeterRegistry meterRegistry) {
+        Cache<Long, SupplierDto> cache = newCache();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "suppliers");
+        return cache;
+    }
+
+    private <V> Cache<Long, V> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+}
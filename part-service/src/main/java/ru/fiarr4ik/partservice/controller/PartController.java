@@ -5,9 +5,14 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,12 +21,25 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.fiarr4ik.partservice.dto.ErrorResponseDto;
+import ru.fiarr4ik.partservice.dto.PageResponseDto;
+import ru.fiarr4ik.partservice.dto.PartImportReportDto;
+import ru.fiarr4ik.partservice.dto.PartBatchResponseDto;
 import ru.fiarr4ik.partservice.dto.PartDto;
 import ru.fiarr4ik.partservice.dto.PartResponseDto;
+import ru.fiarr4ik.partservice.dto.PartSearchResponseDto;
+import ru.fiarr4ik.partservice.service.PartImportService;
+import ru.fiarr4ik.partservice.service.PartSearchService;
 import ru.fiarr4ik.partservice.service.PartService;
+import ru.fiarr4ik.partservice.service.TaggedResult;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -29,11 +47,26 @@ import java.util.List;
 @io.swagger.v3.oas.annotations.tags.Tag(name = "Запчасти", description = "API для управления запчастями")
 public class PartController {
 
+    /**
+     * Заголовок деградированного ответа: сервис категорий или поставщиков не ответил,
+     * и часть полей category/supplier может быть пустой у существующих записей.
+     */
+    public static final String DEGRADED_HEADER = "X-Degraded";
+
     private final PartService partService;
+    private final PartImportService partImportService;
+    private final PartSearchService partSearchService;
+    private final ObjectWriter objectWriter;
 
     @Autowired
-    public PartController(PartService partService) {
+    public PartController(PartService partService,
+                          PartImportService partImportService,
+                          PartSearchService partSearchService,
+                          ObjectMapper objectMapper) {
         this.partService = partService;
+        this.partImportService = partImportService;
+        this.partSearchService = partSearchService;
+        this.objectWriter = objectMapper.writer();
     }
 
     @Operation(summary = "Создать новую запчасть")
@@ -51,31 +84,165 @@ public class PartController {
         return new ResponseEntity<>(createdPart, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Получить список всех запчастей")
+    @Operation(summary = "Получить страницу запчастей",
+            description = "Запчасти упорядочены по ID. Для следующей страницы передайте nextCursor из ответа в параметре cursor")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Список запчастей получен",
+            @ApiResponse(responseCode = "200", description = "Страница запчастей получена. Если сервис категорий или поставщиков не ответил, "
+                    + "ответ приходит без ETag, с Cache-Control: no-store и заголовком X-Degraded: true",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = PartResponseDto.class)))
+                            schema = @Schema(implementation = PageResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Страница не изменилась с момента запроса, указанного в If-None-Match")
     })
     @GetMapping
-    public ResponseEntity<List<PartResponseDto>> getParts() {
-        List<PartResponseDto> list = partService.getAllParts();
-        return new ResponseEntity<>(list, HttpStatus.OK);
+    public ResponseEntity<PageResponseDto<PartResponseDto>> getParts(
+            @Parameter(description = "Курсор, полученный с предыдущей страницей")
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @Parameter(description = "Размер страницы, не более " + PartService.MAX_PAGE_SIZE)
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            WebRequest request) {
+        return conditionalResponse(partService.getParts(cursor, limit), request);
+    }
+
+    @Operation(summary = "Найти запчасти",
+            description = "Ищет по названию и описанию: каждое слово запроса сравнивается как префикс, "
+                    + "похожие названия находятся и с опечатками. Фасеты считаются по всем найденным запчастям")
+    @ApiResponse(responseCode = "200", description = "Результат поиска",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = PartSearchResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "Страница дальше "
+            + PartSearchService.MAX_OFFSET + " записей от начала выдачи")
+    @GetMapping("/search")
+    public ResponseEntity<PartSearchResponseDto> searchParts(
+            @Parameter(description = "Текст запроса")
+            @RequestParam(name = "q", required = false) String query,
+            @Parameter(description = "ID категории")
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @Parameter(description = "ID поставщика")
+            @RequestParam(name = "supplierId", required = false) Long supplierId,
+            @Parameter(description = "Минимальная цена")
+            @RequestParam(name = "minPrice", required = false) Double minPrice,
+            @Parameter(description = "Максимальная цена")
+            @RequestParam(name = "maxPrice", required = false) Double maxPrice,
+            @Parameter(description = "Номер страницы, начиная с 0; страница должна начинаться не дальше "
+                    + PartSearchService.MAX_OFFSET + " записей от начала выдачи")
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @Parameter(description = "Размер страницы, не более " + PartSearchService.MAX_PAGE_SIZE)
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        PartSearchResponseDto result = partSearchService.search(
+                query, categoryId, supplierId, minPrice, maxPrice, page, size);
+        if (result.isDegraded()) {
+            return degradedResponse(result);
+        }
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Выгрузить все запчасти потоком NDJSON",
+            description = "Каждая строка ответа — отдельная запчасть в формате JSON")
+    @ApiResponse(responseCode = "200", description = "Выгрузка запчастей",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = PartResponseDto.class)))
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportParts() {
+        StreamingResponseBody body = outputStream -> partService.exportParts(part -> {
+            try {
+                outputStream.write(objectWriter.writeValueAsBytes(part));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Импортировать запчасти из CSV",
+            description = "Первая строка — заголовок с колонками partId, name, description, categoryId, supplierId, unitPrice. "
+                    + "Строки с partId обновляют существующие запчасти, без partId — создают новые. "
+                    + "Тело читается потоком и импортируется порциями по " + PartImportService.CHUNK_SIZE + " строк")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Импорт завершен; строки с ошибками перечислены в отчете",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PartImportReportDto.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректный заголовок CSV"),
+            @ApiResponse(responseCode = "503", description = "Сервис категорий или поставщиков недоступен, импорт прерван")
+    })
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<PartImportReportDto> importPartsCsv(InputStream body) {
+        PartImportReportDto report = partImportService.importCsv(body);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Импортировать запчасти из NDJSON",
+            description = "Каждая строка — JSON-объект с полями partId, name, description, categoryId, supplierId, unitPrice. "
+                    + "Строки с partId обновляют существующие запчасти, без partId — создают новые")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Импорт завершен; строки с ошибками перечислены в отчете",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PartImportReportDto.class))),
+            @ApiResponse(responseCode = "503", description = "Сервис категорий или поставщиков недоступен, импорт прерван")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PartImportReportDto> importPartsNdjson(InputStream body) {
+        PartImportReportDto report = partImportService.importNdjson(body);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Получить выполняющиеся и недавно завершенные импорты")
+    @ApiResponse(responseCode = "200", description = "Список импортов, начиная с последнего")
+    @GetMapping("/imports")
+    public ResponseEntity<List<PartImportReportDto>> getImports() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(partImportService.getImports());
+    }
+
+    @Operation(summary = "Получить ход импорта")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ход импорта",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PartImportReportDto.class))),
+            @ApiResponse(responseCode = "404", description = "Импорт не найден или сведения о нем устарели")
+    })
+    @GetMapping("/imports/{importId}")
+    public ResponseEntity<PartImportReportDto> getImport(@PathVariable(name = "importId") String importId) {
+        return partImportService.getImport(importId)
+                .map(report -> ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(report))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @Operation(summary = "Получить запчасть по ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Запчасть найдена",
+            @ApiResponse(responseCode = "200", description = "Запчасть найдена. Если сервис категорий или поставщиков не ответил, "
+                    + "ответ приходит без ETag, с Cache-Control: no-store и заголовком X-Degraded: true",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PartResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Запчасть не изменилась с момента запроса, указанного в If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Запчасть не найдена",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<PartResponseDto> getPart(@PathVariable(name = "id") Long id) {
-        PartResponseDto partResponseDto = partService.getPartById(id);
-        return new ResponseEntity<>(partResponseDto, HttpStatus.OK);
+    public ResponseEntity<PartResponseDto> getPart(@PathVariable(name = "id") Long id, WebRequest request) {
+        return conditionalResponse(partService.getPartById(id), request);
+    }
+
+    @Operation(summary = "Получить запчасти по списку ID",
+            description = "Возвращает найденные запчасти вместе с категориями и поставщиками и список ID, для которых запчасть не найдена")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Запчасти получены",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PartBatchResponseDto.class)))
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<PartBatchResponseDto> getPartsByIds(
+            @Parameter(description = "Идентификаторы запчастей", required = true)
+            @RequestBody List<Long> ids) {
+        PartBatchResponseDto parts = partService.getPartsByIds(ids);
+        if (parts.isDegraded()) {
+            return degradedResponse(parts);
+        }
+        return new ResponseEntity<>(parts, HttpStatus.OK);
     }
 
     @Operation(summary = "Обновить данные запчасти")
@@ -123,4 +290,25 @@ public class PartController {
         return partService.existsBySupplierId(supplierId);
     }
 
+    /**
+     * Ответ с ETag; при совпадении с If-None-Match — 304 без тела, DTO ответа при этом не собираются.
+     * Деградированный результат отдается без ETag и с запретом кэширования.
+     */
+    private static <T> ResponseEntity<T> conditionalResponse(TaggedResult<T> result, WebRequest request) {
+        if (result.degraded()) {
+            return degradedResponse(result.body());
+        }
+        if (request.checkNotModified(result.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(result.etag()).body(result.body());
+    }
+
+    private static <T> ResponseEntity<T> degradedResponse(T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header(DEGRADED_HEADER, "true")
+                .body(body);
+    }
+
 }
@@ -0,0 +1,53 @@
+package ru.fiarr4ik.partservice.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.fiarr4ik.partservice.service.ReferenceCacheService;
+
+/**
+ * Сброс кэша справочников по уведомлению category-service и supplier-service.
+ * <p>Доступен только с токеном сервиса, см. {@code SecurityConfig}.</p>
+ */
+@RestController
+@RequestMapping("/api/parts/cache")
+@io.swagger.v3.oas.annotations.tags.Tag(name = "Кэш справочников",
+        description = "Сброс закэшированных категорий и поставщиков при их изменении")
+public class ReferenceCacheController {
+
+    private final ReferenceCacheService referenceCacheService;
+
+    @Autowired
+    public ReferenceCacheController(ReferenceCacheService referenceCacheService) {
+        this.referenceCacheService = referenceCacheService;
+    }
+
+    @Operation(summary = "Сбросить категорию из кэша")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Категория удалена из кэша"),
+            @ApiResponse(responseCode = "403", description = "Запрос выполнен не с токеном сервиса")
+    })
+    @DeleteMapping("/categories/{categoryId}")
+    public ResponseEntity<Void> evictCategory(@PathVariable Long categoryId) {
+        referenceCacheService.evictCategory(categoryId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Сбросить поставщика из кэша")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Поставщик удален из кэша"),
+            @ApiResponse(responseCode = "403", description = "Запрос выполнен не с токеном сервиса")
+    })
+    @DeleteMapping("/suppliers/{supplierId}")
+    public ResponseEntity<Void> evictSupplier(@PathVariable Long supplierId) {
+        referenceCacheService.evictSupplier(supplierId);
+        return ResponseEntity.noContent().build();
+    }
+
+}
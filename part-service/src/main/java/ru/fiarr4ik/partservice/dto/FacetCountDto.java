@@ -0,0 +1,18 @@
+package ru.fiarr4ik.partservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Число найденных запчастей с данным значением фильтра")
+public class FacetCountDto {
+
+    @Schema(description = "ID категории или поставщика", example = "5")
+    private final Long id;
+
+    @Schema(description = "Число найденных запчастей", example = "12")
+    private final long count;
+
+}
@@ -0,0 +1,32 @@
+package ru.fiarr4ik.partservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DTO результата пакетного получения запчастей.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Результат пакетного получения запчастей")
+public class PartBatchResponseDto {
+
+    @Schema(description = "Найденные запчасти с категориями и поставщиками по их ID")
+    private Map<Long, PartResponseDto> found;
+
+    @Schema(description = "ID, для которых запчасти не найдены", example = "[42]")
+    private Set<Long> missingIds;
+
+    @Schema(description = "true, если сервис категорий или поставщиков не ответил и часть полей category/supplier "
+            + "может быть пустой у существующих записей", example = "false")
+    private boolean degraded;
+
+}
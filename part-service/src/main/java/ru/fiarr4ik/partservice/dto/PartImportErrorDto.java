@@ -0,0 +1,18 @@
+package ru.fiarr4ik.partservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Ошибка в строке импорта")
+public class PartImportErrorDto {
+
+    @Schema(description = "Номер строки во входных данных, начиная с 1", example = "42")
+    private final long line;
+
+    @Schema(description = "Описание ошибки")
+    private final String message;
+
+}
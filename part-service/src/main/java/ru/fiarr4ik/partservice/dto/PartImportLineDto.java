@@ -0,0 +1,30 @@
+package ru.fiarr4ik.partservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "Строка импорта запчастей")
+public class PartImportLineDto {
+
+    @Schema(description = "ID существующей запчасти для обновления; пусто для новой запчасти", example = "12")
+    private Long partId;
+
+    @Schema(description = "Название запчасти", example = "Печатная плата кондиционера")
+    private String name;
+
+    @Schema(description = "Описание запчасти", example = "Электронная плата управления климат-контролем")
+    private String description;
+
+    @Schema(description = "Идентификатор категории", example = "101")
+    private Long categoryId;
+
+    @Schema(description = "Идентификатор поставщика", example = "205")
+    private Long supplierId;
+
+    @Schema(description = "Цена за одну единицу запчасти", example = "1250.99")
+    private Double unitPrice;
+
+}
@@ -0,0 +1,43 @@
+package ru.fiarr4ik.partservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Ход и результат импорта запчастей")
+public class PartImportReportDto {
+
+    @Schema(description = "Идентификатор импорта")
+    private final String importId;
+
+    private final PartImportStatus status;
+
+    private final Instant startedAt;
+
+    @Schema(description = "Время завершения; отсутствует, пока импорт выполняется")
+    private final Instant finishedAt;
+
+    @Schema(description = "Число обработанных строк")
+    private final long processed;
+
+    @Schema(description = "Число созданных запчастей")
+    private final long inserted;
+
+    @Schema(description = "Число обновленных запчастей")
+    private final long updated;
+
+    @Schema(description = "Число строк с ошибками")
+    private final long failed;
+
+    @Schema(description = "Ошибки по строкам; сохраняются только первые ошибки импорта")
+    private final List<PartImportErrorDto> errors;
+
+    @Schema(description = "Причина прерывания импорта")
+    private final String failureMessage;
+
+}
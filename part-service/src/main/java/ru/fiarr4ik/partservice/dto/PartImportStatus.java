@@ -0,0 +1,12 @@
+package ru.fiarr4ik.partservice.dto;
+
+/**
+ * Состояние импорта запчастей.
+ */
+public enum PartImportStatus {
+
+    RUNNING,
+    COMPLETED,
+    FAILED
+
+}
@@ -0,0 +1,36 @@
+package ru.fiarr4ik.partservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Результат поиска запчастей")
+public class PartSearchResponseDto {
+
+    @Schema(description = "Найденные запчасти, начиная с наиболее релевантных")
+    private final List<PartResponseDto> items;
+
+    @Schema(description = "Общее число найденных запчастей", example = "134")
+    private final long total;
+
+    @Schema(description = "Номер страницы, начиная с 0", example = "0")
+    private final int page;
+
+    @Schema(description = "Размер страницы", example = "20")
+    private final int size;
+
+    @Schema(description = "Число найденных запчастей по категориям, по убыванию")
+    private final List<FacetCountDto> categories;
+
+    @Schema(description = "Число найденных запчастей по поставщикам, по убыванию")
+    private final List<FacetCountDto> suppliers;
+
+    @Schema(description = "true, если сервис категорий или поставщиков не ответил и часть полей category/supplier "
+            + "может быть пустой у существующих записей", example = "false")
+    private final boolean degraded;
+
+}
@@ -0,0 +1,19 @@
+package ru.fiarr4ik.partservice.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@Setter
+public class SupplierBatchResponseDto {
+
+    private Map<Long, SupplierDto> found = new LinkedHashMap<>();
+
+    private Set<Long> missingIds = new LinkedHashSet<>();
+
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,11 +14,15 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "parts")
+@Table(name = "parts", indexes = {
+        @Index(name = "idx_parts_category_id", columnList = "category_id"),
+        @Index(name = "idx_parts_supplier_id", columnList = "supplier_id")
+})
 public class Part {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parts_seq")
+    @SequenceGenerator(name = "parts_seq", sequenceName = "parts_seq", allocationSize = 50)
     @Column(name = "part_id")
     private Long partId;
 
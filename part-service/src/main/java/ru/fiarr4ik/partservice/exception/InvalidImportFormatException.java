@@ -0,0 +1,9 @@
+package ru.fiarr4ik.partservice.exception;
+
+public class InvalidImportFormatException extends RuntimeException {
+
+    public InvalidImportFormatException(String message) {
+        super(message);
+    }
+
+}
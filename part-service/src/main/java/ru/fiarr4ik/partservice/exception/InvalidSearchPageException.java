@@ -0,0 +1,9 @@
+package ru.fiarr4ik.partservice.exception;
+
+public class InvalidSearchPageException extends RuntimeException {
+
+    public InvalidSearchPageException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,24 @@
+package ru.fiarr4ik.partservice.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import ru.fiarr4ik.partservice.dto.PartDto;
+import ru.fiarr4ik.partservice.entity.Part;
+
+/**
+ * Преобразования запчасти, генерируемые MapStruct при компиляции.
+ * Поле, не сопоставленное явно, приводит к ошибке сборки.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface PartMapper {
+
+    /**
+     * ID запчасти из DTO не переносится: его назначает последовательность при сохранении.
+     */
+    @Mapping(target = "partId", ignore = true)
+    Part toModel(PartDto partDto);
+
+    PartDto toDto(Part part);
+
+}
@@ -1,16 +1,37 @@
 package ru.fiarr4ik.partservice.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.fiarr4ik.partservice.entity.Part;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PartRepository extends JpaRepository<Part, Long> {
 
+    /**
+     * Проверка наличия запчастей категории: поиск останавливается на первой строке индекса idx_parts_category_id.
+     */
+    String EXISTS_BY_CATEGORY_ID = "SELECT EXISTS (SELECT 1 FROM parts WHERE category_id = :categoryId)";
+
+    /**
+     * Проверка наличия запчастей поставщика: поиск останавливается на первой строке индекса idx_parts_supplier_id.
+     */
+    String EXISTS_BY_SUPPLIER_ID = "SELECT EXISTS (SELECT 1 FROM parts WHERE supplier_id = :supplierId)";
+
     Optional<Part> findPartByPartId(Long partId);
 
-    boolean existsByCategoryId(Long categoryId);
+    List<Part> findAllByPartIdIn(Collection<Long> partIds);
+
+    List<Part> findByPartIdGreaterThanOrderByPartIdAsc(Long partId, Limit limit);
+
+    @Query(value = EXISTS_BY_CATEGORY_ID, nativeQuery = true)
+    boolean existsByCategoryId(@Param("categoryId") Long categoryId);
 
-    boolean existsBySupplierId(Long supplierId);
+    @Query(value = EXISTS_BY_SUPPLIER_ID, nativeQuery = true)
+    boolean existsBySupplierId(@Param("supplierId") Long supplierId);
 
 }
@@ -0,0 +1,156 @@
+package ru.fiarr4ik.partservice.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.fiarr4ik.partservice.entity.Part;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Поиск запчастей средствами полнотекстового поиска PostgreSQL.
+ * <p>Запчасть находится, если ее tsvector (название и описание) содержит все слова запроса как префиксы
+ * либо название похоже на запрос по триграммам. Оба условия обслуживаются GIN-индексами
+ * из миграции V3__add_parts_search.</p>
+ * <p>Поисковые запросы замеряются таймером {@code jdbc.repository.invocations}.</p>
+ */
+@Timed("jdbc.repository.invocations")
+@Repository
+public class PartSearchRepository {
+
+    private static final String SELECT_HITS =
+            "SELECT part_id, name, description, category_id, supplier_id, unit_price FROM parts ";
+
+    private static final String RANK =
+            "ts_rank(search_vector, to_tsquery('simple', :tsQuery)) + word_similarity(:text, name)";
+
+    private static final String SELECT_FACETS =
+            "WITH matched AS MATERIALIZED (SELECT category_id, supplier_id FROM parts %s) "
+                    + "SELECT 'category' AS facet, category_id AS value, COUNT(*) AS hits FROM matched GROUP BY category_id "
+                    + "UNION ALL "
+                    + "SELECT 'supplier', supplier_id, COUNT(*) FROM matched GROUP BY supplier_id "
+                    + "ORDER BY hits DESC, value";
+
+    private static final RowMapper<Part> PART_ROW_MAPPER = (rs, rowNum) -> {
+        Part part = new Part();
+        part.setPartId(rs.getLong("part_id"));
+        part.setName(rs.getString("name"));
+        part.setDescription(rs.getString("description"));
+        part.setCategoryId(rs.getObject("category_id", Long.class));
+        part.setSupplierId(rs.getObject("supplier_id", Long.class));
+        part.setUnitPrice(rs.getDouble("unit_price"));
+        return part;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PartSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Возвращает страницу найденных запчастей. С текстом запроса запчасти упорядочены по релевантности,
+     * без него — по ID.
+     *
+     * @param criteria условия поиска
+     * @param offset   число пропускаемых запчастей
+     * @param limit    размер страницы
+     * @return найденные запчасти
+     */
+    public List<Part> findHits(SearchCriteria criteria, int offset, int limit) {
+        MapSqlParameterSource params = parameters(criteria)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        String orderBy = criteria.hasText() ? "ORDER BY " + RANK + " DESC, part_id " : "ORDER BY part_id ";
+        return jdbcTemplate.query(SELECT_HITS + where(criteria) + orderBy + "LIMIT :limit OFFSET :offset",
+                params, PART_ROW_MAPPER);
+    }
+
+    /**
+     * Считает найденные запчасти в разрезе категорий и поставщиков одним проходом по результату поиска.
+     *
+     * @param criteria условия поиска
+     * @return общее число найденных запчастей и их распределение по категориям и поставщикам
+     */
+    public Facets countFacets(SearchCriteria criteria) {
+        Map<Long, Long> categories = new LinkedHashMap<>();
+        Map<Long, Long> suppliers = new LinkedHashMap<>();
+        long[] total = new long[1];
+        jdbcTemplate.query(String.format(SELECT_FACETS, where(criteria)), parameters(criteria), rs -> {
+            Long value = rs.getObject("value", Long.class);
+            long hits = rs.getLong("hits");
+            if ("category".equals(rs.getString("facet"))) {
+                total[0] += hits;
+                if (value != null) {
+                    categories.put(value, hits);
+                }
+            } else if (value != null) {
+                suppliers.put(value, hits);
+            }
+        });
+        return new Facets(total[0], categories, suppliers);
+    }
+
+    private static String where(SearchCriteria criteria) {
+        List<String> conditions = new ArrayList<>();
+        if (criteria.hasText()) {
+            conditions.add("(search_vector @@ to_tsquery('simple', :tsQuery) OR :text <% name)");
+        }
+        if (criteria.categoryId() != null) {
+            conditions.add("category_id = :categoryId");
+        }
+        if (criteria.supplierId() != null) {
+            conditions.add("supplier_id = :supplierId");
+        }
+        if (criteria.minPrice() != null) {
+            conditions.add("unit_price >= :minPrice");
+        }
+        if (criteria.maxPrice() != null) {
+            conditions.add("unit_price <= :maxPrice");
+        }
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ";
+    }
+
+    private static MapSqlParameterSource parameters(SearchCriteria criteria) {
+        return new MapSqlParameterSource()
+                .addValue("tsQuery", criteria.tsQuery())
+                .addValue("text", criteria.text())
+                .addValue("categoryId", criteria.categoryId())
+                .addValue("supplierId", criteria.supplierId())
+                .addValue("minPrice", criteria.minPrice())
+                .addValue("maxPrice", criteria.maxPrice());
+    }
+
+    /**
+     * Условия поиска; пустые поля не ограничивают результат.
+     *
+     * @param tsQuery    запрос в синтаксисе to_tsquery; null, если текст запроса не задан
+     * @param text       исходный текст запроса для триграммного сравнения с названием
+     * @param categoryId ID категории
+     * @param supplierId ID поставщика
+     * @param minPrice   минимальная цена
+     * @param maxPrice   максимальная цена
+     */
+    public record SearchCriteria(String tsQuery, String text, Long categoryId, Long supplierId,
+                                 Double minPrice, Double maxPrice) {
+
+        public boolean hasText() {
+            return tsQuery != null;
+        }
+
+    }
+
+    /**
+     * Число найденных запчастей всего и по значениям фильтров, по убыванию.
+     */
+    public record Facets(long total, Map<Long, Long> categories, Map<Long, Long> suppliers) {
+    }
+
+}
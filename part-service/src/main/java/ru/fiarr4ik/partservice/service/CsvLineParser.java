@@ -0,0 +1,49 @@
+package ru.fiarr4ik.partservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Разбор строки CSV (RFC 4180) с разделителем-запятой.
+ * <p>Поля в двойных кавычках могут содержать запятые и экранированные кавычки {@code ""}.
+ * Переводы строк внутри полей не поддерживаются: каждая запись занимает одну строку.</p>
+ */
+final class CsvLineParser {
+
+    private CsvLineParser() {
+    }
+
+    static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Незакрытая кавычка");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+}
@@ -0,0 +1,65 @@
+package ru.fiarr4ik.partservice.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import ru.fiarr4ik.partservice.dto.CategoryDto;
+import ru.fiarr4ik.partservice.dto.SupplierDto;
+import ru.fiarr4ik.partservice.entity.Part;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Вычисление строгих ETag для ответов с запчастями.
+ * <p>Тег строится как MD5 от полей запчасти и ее категории и поставщика в порядке их вывода в ответе,
+ * поэтому меняется вместе с телом ответа и совпадает на всех экземплярах сервиса. Тег считается
+ * по сущностям и данным справочников, до сборки DTO и сериализации в JSON.</p>
+ * <p>Категории и поставщики для тега берутся из кэша справочников, поэтому, пока они в кэше, ответ 304
+ * обходится без обращений к category-service и supplier-service. При промахе кэша запрос к сервису
+ * справочника остается: без версии записи от самого сервиса нельзя узнать, изменилась ли она.</p>
+ */
+@Service
+public class EntityTagService {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final char NULL_VALUE = '\u0000';
+
+    public String tagOf(Part part, CategoryDto category, SupplierDto supplier) {
+        StringBuilder fields = new StringBuilder();
+        appendPart(fields, part, category, supplier);
+        return toTag(fields);
+    }
+
+    public String tagOf(PartEnrichmentService.ResolvedParts resolved, Long nextCursor) {
+        StringBuilder fields = new StringBuilder();
+        resolved.parts().forEach(part ->
+                appendPart(fields, part, resolved.categoryOf(part), resolved.supplierOf(part)));
+        append(fields, nextCursor);
+        return toTag(fields);
+    }
+
+    private static void appendPart(StringBuilder fields, Part part, CategoryDto category, SupplierDto supplier) {
+        append(fields, part.getName(), part.getDescription(), part.getUnitPrice());
+        if (category == null) {
+            append(fields, (Object) null);
+        } else {
+            append(fields, category.getName(), category.getDescription());
+        }
+        if (supplier == null) {
+            append(fields, (Object) null);
+        } else {
+            append(fields, supplier.getName(), supplier.getContactPerson(), supplier.getPhone(),
+                    supplier.getEmail(), supplier.getAddress());
+        }
+    }
+
+    private static void append(StringBuilder fields, Object... values) {
+        for (Object value : values) {
+            fields.append(value == null ? NULL_VALUE : value).append(SEPARATOR);
+        }
+    }
+
+    private static String toTag(StringBuilder fields) {
+        return "\"" + DigestUtils.md5DigestAsHex(fields.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+}
@@ -0,0 +1,104 @@
+package ru.fiarr4ik.partservice.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import ru.fiarr4ik.partservice.dto.CategoryDto;
+import ru.fiarr4ik.partservice.dto.PartResponseDto;
+import ru.fiarr4ik.partservice.dto.SupplierDto;
+import ru.fiarr4ik.partservice.entity.Part;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Обогащение запчастей данными категорий и поставщиков.
+ * <p>Для набора запчастей собирает уникальные ID категорий и поставщиков, получает их
+ * пакетными запросами к каждому сервису, по одному на {@link ReferenceLookup#MAX_BATCH_SIZE} ID,
+ * и соединяет результаты в памяти.</p>
+ */
+@Service
+public class PartEnrichmentService {
+
+    private final ValidationCategoryService validationCategoryService;
+    private final ValidateSupplierService validateSupplierService;
+
+    @Autowired
+    public PartEnrichmentService(ValidationCategoryService validationCategoryService,
+                                 ValidateSupplierService validateSupplierService) {
+        this.validationCategoryService = validationCategoryService;
+        this.validateSupplierService = validateSupplierService;
+    }
+
+    /**
+     * Обогащает список запчастей; для страницы запчастей это не более двух внешних вызовов.
+     *
+     * @param parts запчасти
+     * @return DTO запчастей в том же порядке; для ненайденных категорий и поставщиков поле остается пустым
+     */
+    public List<PartResponseDto> enrich(List<Part> parts) {
+        return toResponseDtos(resolve(parts));
+    }
+
+    /**
+     * Получает категории и поставщиков для набора запчастей, не собирая DTO ответа.
+     * Категории и поставщики берутся из локального кэша; во внешние сервисы запрашиваются только отсутствующие.
+     *
+     * @param parts запчасти
+     * @return запчасти вместе с их категориями и поставщиками и признаком деградации
+     */
+    public ResolvedParts resolve(List<Part> parts) {
+        Set<Long> categoryIds = parts.stream()
+                .map(Part::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> supplierIds = parts.stream()
+                .map(Part::getSupplierId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        ReferenceLookup<CategoryDto> categories = validationCategoryService.getCategoriesByIds(categoryIds);
+        ReferenceLookup<SupplierDto> suppliers = validateSupplierService.getSuppliersByIds(supplierIds);
+        return new ResolvedParts(parts, categories.found(), suppliers.found(),
+                categories.degraded() || suppliers.degraded());
+    }
+
+    public List<PartResponseDto> toResponseDtos(ResolvedParts resolved) {
+        return resolved.parts().stream()
+                .map(part -> toResponseDto(part, resolved.categoryOf(part), resolved.supplierOf(part)))
+                .collect(Collectors.toList());
+    }
+
+    public PartResponseDto toResponseDto(Part part, CategoryDto categoryDto, SupplierDto supplierDto) {
+        PartResponseDto responseDto = new PartResponseDto();
+        responseDto.setName(part.getName());
+        responseDto.setDescription(part.getDescription());
+        responseDto.setCategory(categoryDto);
+        responseDto.setSupplier(supplierDto);
+        responseDto.setUnitPrice(part.getUnitPrice());
+        return responseDto;
+    }
+
+    /**
+     * Запчасти вместе с найденными для них категориями и поставщиками.
+     * <p>{@code degraded} означает, что сервис категорий или поставщиков не ответил: пустое поле в ответе
+     * может скрывать существующую запись, и такой ответ нельзя кэшировать как полный.</p>
+     */
+    public record ResolvedParts(List<Part> parts,
+                                Map<Long, CategoryDto> categories,
+                                Map<Long, SupplierDto> suppliers,
+                                boolean degraded) {
+
+        public CategoryDto categoryOf(Part part) {
+            return categories.get(part.getCategoryId());
+        }
+
+        public SupplierDto supplierOf(Part part) {
+            return suppliers.get(part.getSupplierId());
+        }
+
+    }
+
+}
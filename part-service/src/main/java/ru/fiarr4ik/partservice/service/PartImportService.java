@@ -0,0 +1,395 @@
+package ru.fiarr4ik.partservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.fiarr4ik.partservice.dto.PartImportErrorDto;
+import ru.fiarr4ik.partservice.dto.PartImportLineDto;
+import ru.fiarr4ik.partservice.dto.PartImportReportDto;
+import ru.fiarr4ik.partservice.dto.PartImportStatus;
+import ru.fiarr4ik.partservice.entity.Part;
+import ru.fiarr4ik.partservice.exception.InvalidImportFormatException;
+import ru.fiarr4ik.partservice.exception.ServiceUnavailableException;
+import ru.fiarr4ik.partservice.repository.PartRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Импорт запчастей из потока CSV или NDJSON.
+ * <p>Входные данные читаются построчно и обрабатываются порциями по {@link #CHUNK_SIZE} строк.
+ * Для каждой порции категории и поставщики проверяются одним пакетным запросом к каждому сервису,
+ * а запчасти создаются и обновляются в одной транзакции пакетными JDBC-запросами Hibernate.
+ * Строки с ошибками пропускаются и попадают в отчет, остальные строки импортируются.</p>
+ * <p>Ход выполняющихся и недавно завершенных импортов доступен по их идентификатору.</p>
+ */
+@Service
+public class PartImportService {
+
+    public static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Set<String> CSV_COLUMNS =
+            Set.of("partid", "name", "description", "categoryid", "supplierid", "unitprice");
+
+    private final PartRepository partRepository;
+    private final ValidationCategoryService validationCategoryService;
+    private final ValidateSupplierService validateSupplierService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectReader lineReader;
+    private final Cache<String, PartImport> imports = Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    @Autowired
+    public PartImportService(PartRepository partRepository,
+                             ValidationCategoryService validationCategoryService,
+                             ValidateSupplierService validateSupplierService,
+                             TransactionTemplate transactionTemplate,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper) {
+        this.partRepository = partRepository;
+        this.validationCategoryService = validationCategoryService;
+        this.validateSupplierService = validateSupplierService;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.lineReader = objectMapper.readerFor(PartImportLineDto.class);
+    }
+
+    /**
+     * Импортирует запчасти из CSV. Первая строка — заголовок с названиями колонок
+     * {@code partId, name, description, categoryId, supplierId, unitPrice} в любом порядке;
+     * обязательны колонки {@code name} и {@code unitPrice}.
+     *
+     * @param inputStream тело запроса
+     * @return отчет об импорте
+     */
+    public PartImportReportDto importCsv(InputStream inputStream) {
+        return runImport(inputStream, header -> {
+            List<String> columns;
+            try {
+                columns = CsvLineParser.parse(header).stream()
+                        .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toList());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidImportFormatException("Некорректный заголовок CSV: " + e.getMessage());
+            }
+            if (!columns.contains("name") || !columns.contains("unitprice")) {
+                throw new InvalidImportFormatException("В заголовке CSV нет обязательных колонок name и unitPrice");
+            }
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                if (CSV_COLUMNS.contains(columns.get(i))) {
+                    index.put(columns.get(i), i);
+                }
+            }
+            return line -> toLine(CsvLineParser.parse(line), index);
+        });
+    }
+
+    /**
+     * Импортирует запчасти из NDJSON: каждая строка — отдельный JSON-объект запчасти.
+     *
+     * @param inputStream тело запроса
+     * @return отчет об импорте
+     */
+    public PartImportReportDto importNdjson(InputStream inputStream) {
+        return runImport(inputStream, null);
+    }
+
+    public Optional<PartImportReportDto> getImport(String importId) {
+        return Optional.ofNullable(imports.getIfPresent(importId)).map(PartImport::toReport);
+    }
+
+    /**
+     * Возвращает выполняющиеся и недавно завершенные импорты, начиная с последнего.
+     */
+    public List<PartImportReportDto> getImports() {
+        return imports.asMap().values().stream()
+                .sorted(Comparator.comparing((PartImport partImport) -> partImport.startedAt).reversed())
+                .map(PartImport::toReport)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Читает поток построчно и импортирует его порциями, регистрируя ход импорта.
+     *
+     * @param headerParser разбор заголовка CSV, возвращающий разбор строк данных; null для NDJSON
+     */
+    private PartImportReportDto runImport(InputStream inputStream,
+                                          Function<String, Function<String, PartImportLineDto>> headerParser) {
+        PartImport partImport = new PartImport();
+        imports.put(partImport.id, partImport);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            Function<String, PartImportLineDto> lineParser = headerParser == null ? this::readJson : null;
+            List<ImportLine> chunk = new ArrayList<>(CHUNK_SIZE);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (lineParser == null) {
+                    lineParser = headerParser.apply(line);
+                    continue;
+                }
+                chunk.add(parse(lineNumber, line, lineParser));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(partImport, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(partImport, chunk);
+            }
+            partImport.finish(PartImportStatus.COMPLETED, null);
+        } catch (IOException e) {
+            partImport.finish(PartImportStatus.FAILED, e.getMessage());
+            throw new UncheckedIOException(e);
+        } catch (ServiceUnavailableException e) {
+            partImport.finish(PartImportStatus.FAILED, e.getMessage());
+            throw new ServiceUnavailableException("Импорт " + partImport.id + " прерван после "
+                    + partImport.processed.get() + " строк: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            partImport.finish(PartImportStatus.FAILED, e.getMessage());
+            throw e;
+        } finally {
+            imports.put(partImport.id, partImport);
+        }
+        return partImport.toReport();
+    }
+
+    private PartImportLineDto readJson(String line) {
+        try {
+            return lineReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Не удалось разобрать строку: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportLine parse(long lineNumber, String line, Function<String, PartImportLineDto> lineParser) {
+        try {
+            PartImportLineDto dto = lineParser.apply(line);
+            if (dto == null) {
+                return new ImportLine(lineNumber, null, "Пустая запись");
+            }
+            return new ImportLine(lineNumber, dto, validate(dto));
+        } catch (IllegalArgumentException e) {
+            return new ImportLine(lineNumber, null, e.getMessage());
+        }
+    }
+
+    private static PartImportLineDto toLine(List<String> fields, Map<String, Integer> index) {
+        PartImportLineDto dto = new PartImportLineDto();
+        dto.setPartId(parseLong(field(fields, index, "partid"), "partId"));
+        dto.setName(field(fields, index, "name"));
+        dto.setDescription(field(fields, index, "description"));
+        dto.setCategoryId(parseLong(field(fields, index, "categoryid"), "categoryId"));
+        dto.setSupplierId(parseLong(field(fields, index, "supplierid"), "supplierId"));
+        String unitPrice = field(fields, index, "unitprice");
+        try {
+            dto.setUnitPrice(unitPrice == null ? null : Double.valueOf(unitPrice));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректное значение unitPrice: " + unitPrice);
+        }
+        return dto;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> index, String column) {
+        Integer position = index.get(column);
+        if (position == null || position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseLong(String value, String column) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректное значение " + column + ": " + value);
+        }
+    }
+
+    private static String validate(PartImportLineDto dto) {
+        if (dto.getName() == null || dto.getName().isBlank()) {
+            return "Название запчасти не может быть пустым";
+        }
+        if (dto.getUnitPrice() == null) {
+            return "Цена за единицу запчасти обязательна";
+        }
+        if (dto.getUnitPrice() <= 0) {
+            return "Цена должна быть больше нуля";
+        }
+        return null;
+    }
+
+    private void importChunk(PartImport partImport, List<ImportLine> chunk) {
+        Set<Long> categoryIds = chunk.stream()
+                .filter(ImportLine::isValid)
+                .map(line -> line.dto().getCategoryId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> supplierIds = chunk.stream()
+                .filter(ImportLine::isValid)
+                .map(line -> line.dto().getSupplierId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingCategoryIds = categoryIds.isEmpty()
+                ? Collections.emptySet() : validationCategoryService.findExistingCategoryIds(categoryIds);
+        Set<Long> existingSupplierIds = supplierIds.isEmpty()
+                ? Collections.emptySet() : validateSupplierService.findExistingSupplierIds(supplierIds);
+
+        List<ImportLine> accepted = new ArrayList<>(chunk.size());
+        List<PartImportErrorDto> errors = new ArrayList<>();
+        for (ImportLine line : chunk) {
+            if (!line.isValid()) {
+                errors.add(new PartImportErrorDto(line.number(), line.error()));
+                continue;
+            }
+            Long categoryId = line.dto().getCategoryId();
+            Long supplierId = line.dto().getSupplierId();
+            if (categoryId != null && !existingCategoryIds.contains(categoryId)) {
+                errors.add(new PartImportErrorDto(line.number(), "Категория с id=" + categoryId + " не найдена"));
+            } else if (supplierId != null && !existingSupplierIds.contains(supplierId)) {
+                errors.add(new PartImportErrorDto(line.number(), "Поставщик с id=" + supplierId + " не найден"));
+            } else {
+                accepted.add(line);
+            }
+        }
+
+        ChunkResult result = transactionTemplate.execute(status -> upsert(accepted));
+        errors.addAll(result.errors());
+        partImport.record(chunk.size(), result.inserted(), result.updated(), errors);
+        imports.put(partImport.id, partImport);
+    }
+
+    private ChunkResult upsert(List<ImportLine> lines) {
+        Set<Long> partIds = lines.stream()
+                .map(line -> line.dto().getPartId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Part> existing = partIds.isEmpty() ? Collections.emptyMap()
+                : partRepository.findAllByPartIdIn(partIds).stream()
+                        .collect(Collectors.toMap(Part::getPartId, Function.identity()));
+
+        List<Part> created = new ArrayList<>();
+        List<PartImportErrorDto> errors = new ArrayList<>();
+        long updated = 0;
+        for (ImportLine line : lines) {
+            PartImportLineDto dto = line.dto();
+            Part part;
+            if (dto.getPartId() == null) {
+                part = new Part();
+                created.add(part);
+            } else {
+                part = existing.get(dto.getPartId());
+                if (part == null) {
+                    errors.add(new PartImportErrorDto(line.number(), "Запчасть с id=" + dto.getPartId() + " не найдена"));
+                    continue;
+                }
+                updated++;
+            }
+            part.setName(dto.getName());
+            part.setDescription(dto.getDescription());
+            part.setCategoryId(dto.getCategoryId());
+            part.setSupplierId(dto.getSupplierId());
+            part.setUnitPrice(dto.getUnitPrice());
+        }
+
+        partRepository.saveAll(created);
+        entityManager.flush();
+        entityManager.clear();
+        return new ChunkResult(created.size(), updated, errors);
+    }
+
+    private record ImportLine(long number, PartImportLineDto dto, String error) {
+
+        boolean isValid() {
+            return error == null;
+        }
+
+    }
+
+    private record ChunkResult(long inserted, long updated, List<PartImportErrorDto> errors) {
+    }
+
+    /**
+     * Ход одного импорта. Обновляется потоком импорта и читается запросами состояния.
+     */
+    private static final class PartImport {
+
+        private final String id = UUID.randomUUID().toString();
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<PartImportErrorDto> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile PartImportStatus status = PartImportStatus.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile String failureMessage;
+
+        void record(int lines, long insertedLines, long updatedLines, List<PartImportErrorDto> lineErrors) {
+            inserted.addAndGet(insertedLines);
+            updated.addAndGet(updatedLines);
+            failed.addAndGet(lineErrors.size());
+            synchronized (errors) {
+                for (PartImportErrorDto error : lineErrors) {
+                    if (errors.size() >= MAX_REPORTED_ERRORS) {
+                        break;
+                    }
+                    errors.add(error);
+                }
+            }
+            processed.addAndGet(lines);
+        }
+
+        void finish(PartImportStatus finalStatus, String message) {
+            failureMessage = message;
+            finishedAt = Instant.now();
+            status = finalStatus;
+        }
+
+        PartImportReportDto toReport() {
+            List<PartImportErrorDto> errorsSnapshot;
+            synchronized (errors) {
+                errorsSnapshot = List.copyOf(errors);
+            }
+            return new PartImportReportDto(id, status, startedAt, finishedAt, processed.get(), inserted.get(),
+                    updated.get(), failed.get(), errorsSnapshot, failureMessage);
+        }
+
+    }
+
+}
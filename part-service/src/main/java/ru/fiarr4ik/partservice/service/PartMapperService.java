@@ -1,39 +1,27 @@
 package ru.fiarr4ik.partservice.service;
 
-import jakarta.annotation.PostConstruct;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.PropertyMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import ru.fiarr4ik.partservice.dto.PartDto;
 import ru.fiarr4ik.partservice.entity.Part;
+import ru.fiarr4ik.partservice.mapper.PartMapper;
 
 @Service
 public class PartMapperService {
 
-    private final ModelMapper modelMapper;
+    private final PartMapper partMapper;
 
     @Autowired
-    public PartMapperService(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
-
-    @PostConstruct
-    public void init() {
-        modelMapper.addMappings(new PropertyMap<PartDto, Part>() {
-            @Override
-            protected void configure() {
-                skip(destination.getPartId());
-            }
-        });
+    public PartMapperService(PartMapper partMapper) {
+        this.partMapper = partMapper;
     }
 
     public Part toModel(PartDto partDto) {
-        return modelMapper.map(partDto, Part.class);
+        return partMapper.toModel(partDto);
     }
 
     public PartDto toDto(Part part) {
-        return modelMapper.map(part, PartDto.class);
+        return partMapper.toDto(part);
     }
 
 }
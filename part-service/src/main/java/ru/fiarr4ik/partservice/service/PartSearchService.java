@@ -0,0 +1,96 @@
+package ru.fiarr4ik.partservice.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import ru.fiarr4ik.partservice.dto.FacetCountDto;
+import ru.fiarr4ik.partservice.dto.PartResponseDto;
+import ru.fiarr4ik.partservice.dto.PartSearchResponseDto;
+import ru.fiarr4ik.partservice.entity.Part;
+import ru.fiarr4ik.partservice.exception.InvalidSearchPageException;
+import ru.fiarr4ik.partservice.repository.PartSearchRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Поиск запчастей по тексту с фильтрами и подсчетом фасетов.
+ */
+@Service
+public class PartSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_OFFSET = 10_000;
+
+    private final PartSearchRepository partSearchRepository;
+    private final PartEnrichmentService partEnrichmentService;
+
+    @Autowired
+    public PartSearchService(PartSearchRepository partSearchRepository,
+                             PartEnrichmentService partEnrichmentService) {
+        this.partSearchRepository = partSearchRepository;
+        this.partEnrichmentService = partEnrichmentService;
+    }
+
+    /**
+     * Ищет запчасти по названию и описанию. Каждое слово запроса ищется как префикс, поэтому
+     * «карт hp» находит «Тонер-картридж HP»; название, похожее на запрос, находится и с опечатками.
+     *
+     * @param query      текст запроса; без него запчасти только фильтруются
+     * @param categoryId ID категории
+     * @param supplierId ID поставщика
+     * @param minPrice   минимальная цена
+     * @param maxPrice   максимальная цена
+     * @param page       номер страницы, начиная с 0; смещение страницы не должно превышать {@link #MAX_OFFSET}
+     * @param size       размер страницы, ограничивается {@link #MAX_PAGE_SIZE}
+     * @return страница найденных запчастей с категориями и поставщиками и фасеты по всему результату
+     * @throws InvalidSearchPageException если страница дальше {@link #MAX_OFFSET} записей от начала выдачи
+     */
+    public PartSearchResponseDto search(String query, Long categoryId, Long supplierId,
+                                        Double minPrice, Double maxPrice, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long offset = (long) pageNumber * pageSize;
+        if (offset > MAX_OFFSET) {
+            throw new InvalidSearchPageException("Страница " + pageNumber + " недоступна: поиск возвращает не дальше "
+                    + MAX_OFFSET + " записей от начала выдачи, уточните запрос");
+        }
+        String tsQuery = toPrefixQuery(query);
+        PartSearchRepository.SearchCriteria criteria = new PartSearchRepository.SearchCriteria(
+                tsQuery, tsQuery == null ? null : query.trim(), categoryId, supplierId, minPrice, maxPrice);
+
+        List<Part> hits = partSearchRepository.findHits(criteria, (int) offset, pageSize);
+        PartSearchRepository.Facets facets = partSearchRepository.countFacets(criteria);
+        PartEnrichmentService.ResolvedParts resolved = partEnrichmentService.resolve(hits);
+        List<PartResponseDto> items = partEnrichmentService.toResponseDtos(resolved);
+
+        return new PartSearchResponseDto(items, facets.total(), pageNumber, pageSize,
+                toFacetCounts(facets.categories()), toFacetCounts(facets.suppliers()), resolved.degraded());
+    }
+
+    /**
+     * Строит запрос to_tsquery, в котором все слова обязательны и сравниваются как префиксы.
+     * Из запроса остаются только буквы и цифры, поэтому операторы tsquery в нем не интерпретируются.
+     *
+     * @return запрос или null, если в тексте нет слов
+     */
+    static String toPrefixQuery(String query) {
+        if (query == null) {
+            return null;
+        }
+        String tsQuery = Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+
+    private static List<FacetCountDto> toFacetCounts(Map<Long, Long> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> new FacetCountDto(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+}
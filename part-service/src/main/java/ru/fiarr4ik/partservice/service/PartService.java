@@ -1,8 +1,12 @@
 package ru.fiarr4ik.partservice.service;
 
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import ru.fiarr4ik.partservice.dto.CategoryDto;
+import ru.fiarr4ik.partservice.dto.PageResponseDto;
+import ru.fiarr4ik.partservice.dto.PartBatchResponseDto;
 import ru.fiarr4ik.partservice.dto.PartDto;
 import ru.fiarr4ik.partservice.dto.PartResponseDto;
 import ru.fiarr4ik.partservice.dto.SupplierDto;
@@ -10,62 +14,161 @@ import ru.fiarr4ik.partservice.entity.Part;
 import ru.fiarr4ik.partservice.exception.PartNotFoundException;
 import ru.fiarr4ik.partservice.repository.PartRepository;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class PartService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final PartRepository partRepository;
     private final PartMapperService partMapperService;
     private final ValidateSupplierService validateSupplierService;
     private final ValidationCategoryService validationCategoryService;
+    private final PartEnrichmentService partEnrichmentService;
+    private final ReferenceValidationService referenceValidationService;
+    private final EntityTagService entityTagService;
+    private final EntityManager entityManager;
 
     @Autowired
     public PartService(PartRepository partRepository,
                        PartMapperService partMapperService,
                        ValidateSupplierService validateSupplierService,
-                       ValidationCategoryService validationCategoryService) {
+                       ValidationCategoryService validationCategoryService,
+                       PartEnrichmentService partEnrichmentService,
+                       ReferenceValidationService referenceValidationService,
+                       EntityTagService entityTagService,
+                       EntityManager entityManager) {
         this.partRepository = partRepository;
         this.partMapperService = partMapperService;
         this.validateSupplierService = validateSupplierService;
         this.validationCategoryService = validationCategoryService;
+        this.partEnrichmentService = partEnrichmentService;
+        this.referenceValidationService = referenceValidationService;
+        this.entityTagService = entityTagService;
+        this.entityManager = entityManager;
     }
 
     public PartDto createPart(PartDto partDto) {
-        validateSupplierService.validateSupplierExists(partDto.getSupplierId());
-        validationCategoryService.validateCategoryExists(partDto.getCategoryId());
+        referenceValidationService.validate(partDto.getCategoryId(), partDto.getSupplierId());
         Part part = partMapperService.toModel(partDto);
         Part savedPart = partRepository.save(part);
         return partMapperService.toDto(savedPart);
     }
 
-    public List<PartResponseDto> getAllParts() {
-        List<Part> parts = partRepository.findAll();
-        return parts.stream().map(this::getPartResponseDto).collect(Collectors.toList());
+    /**
+     * Возвращает страницу запчастей, упорядоченных по ID (keyset-пагинация).
+     *
+     * @param cursor ID последней запчасти предыдущей страницы; null для первой страницы
+     * @param limit  размер страницы, ограничивается {@link #MAX_PAGE_SIZE}
+     * @return ETag страницы и построение страницы запчастей с курсором следующей страницы
+     */
+    public TaggedResult<PageResponseDto<PartResponseDto>> getParts(Long cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Part> parts = partRepository.findByPartIdGreaterThanOrderByPartIdAsc(
+                cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+
+        Long nextCursor = parts.size() > pageSize ? parts.get(pageSize - 1).getPartId() : null;
+        PartEnrichmentService.ResolvedParts resolved =
+                partEnrichmentService.resolve(parts.subList(0, Math.min(parts.size(), pageSize)));
+
+        return new TaggedResult<>(entityTagService.tagOf(resolved, nextCursor), resolved.degraded(),
+                () -> new PageResponseDto<>(partEnrichmentService.toResponseDtos(resolved), nextCursor));
     }
 
-    public PartResponseDto getPartById(Long id) {
-        Optional<Part> part = partRepository.findById(id);
-        return part.map(this::getPartResponseDto).orElseThrow(PartNotFoundException::new);
+    /**
+     * Выгружает все запчасти порциями, читая каждую порцию keyset-запросом по ID.
+     * Соединение с базой возвращается в пул после чтения порции, до обращения к справочникам за обогащением,
+     * поэтому долгая выгрузка не занимает соединение. Прочитанные запчасти отсоединяются от контекста
+     * персистентности запроса, и объем занятой памяти не зависит от размера таблицы.
+     *
+     * @param consumer получатель запчастей в порядке возрастания ID
+     */
+    public void exportParts(Consumer<PartResponseDto> consumer) {
+        long cursor = 0L;
+        List<Part> chunk;
+        do {
+            chunk = partRepository.findByPartIdGreaterThanOrderByPartIdAsc(cursor, Limit.of(EXPORT_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunk.forEach(entityManager::detach);
+            cursor = chunk.get(chunk.size() - 1).getPartId();
+            partEnrichmentService.enrich(chunk).forEach(consumer);
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
     }
 
-    public PartDto updatePart(Long id, PartDto partDto) {
-        Optional<Part> part = partRepository.findPartByPartId(id);
-        if (part.isPresent()) {
-            Part partToUpdate = part.get();
-            partToUpdate.setName(partDto.getName());
-            partToUpdate.setDescription(partDto.getDescription());
-            partToUpdate.setCategoryId(partDto.getCategoryId());
-            partToUpdate.setSupplierId(partToUpdate.getSupplierId());
-            partToUpdate.setUnitPrice(partDto.getUnitPrice());
-            partRepository.save(partToUpdate);
-            validateSupplierService.validateSupplierExists(partDto.getSupplierId());
-            validationCategoryService.validateCategoryExists(partDto.getCategoryId());
-            partRepository.save(partToUpdate);
+    /**
+     * Возвращает запчасть с категорией и поставщиком.
+     * ETag вычисляется по сущности и данным справочников, DTO ответа строится только при запросе тела.
+     * Если у запчасти есть категория или поставщик, а сервис не вернул их, результат помечается деградированным.
+     *
+     * @param id ID запчасти
+     * @return ETag и построение DTO запчасти
+     */
+    public TaggedResult<PartResponseDto> getPartById(Long id) {
+        Part part = partRepository.findById(id).orElseThrow(PartNotFoundException::new);
+        CategoryDto categoryDto = validationCategoryService.getCategoryById(part.getCategoryId());
+        SupplierDto supplierDto = validateSupplierService.getSupplierById(part.getSupplierId());
+        boolean degraded = (part.getCategoryId() != null && categoryDto == null)
+                || (part.getSupplierId() != null && supplierDto == null);
+
+        return new TaggedResult<>(entityTagService.tagOf(part, categoryDto, supplierDto), degraded,
+                () -> partEnrichmentService.toResponseDto(part, categoryDto, supplierDto));
+    }
+
+    /**
+     * Возвращает запчасти с категориями и поставщиками по набору ID.
+     * Категории и поставщики всех запчастей загружаются пакетно, независимо от числа ID.
+     *
+     * @param ids идентификаторы запчастей
+     * @return найденные запчасти по ID, список отсутствующих ID и признак деградации
+     */
+    public PartBatchResponseDto getPartsByIds(Collection<Long> ids) {
+        Set<Long> requestedIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, PartResponseDto> found = new LinkedHashMap<>();
+        boolean degraded = false;
+        if (!requestedIds.isEmpty()) {
+            PartEnrichmentService.ResolvedParts resolved =
+                    partEnrichmentService.resolve(partRepository.findAllByPartIdIn(requestedIds));
+            List<PartResponseDto> enriched = partEnrichmentService.toResponseDtos(resolved);
+            for (int i = 0; i < resolved.parts().size(); i++) {
+                found.put(resolved.parts().get(i).getPartId(), enriched.get(i));
+            }
+            degraded = resolved.degraded();
         }
-        return null;
+
+        Set<Long> missingIds = requestedIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new PartBatchResponseDto(found, missingIds, degraded);
+    }
+
+    public PartDto updatePart(Long id, PartDto partDto) {
+        Part partToUpdate = partRepository.findPartByPartId(id)
+                .orElseThrow(PartNotFoundException::new);
+        referenceValidationService.validate(partDto.getCategoryId(), partDto.getSupplierId());
+
+        partToUpdate.setName(partDto.getName());
+        partToUpdate.setDescription(partDto.getDescription());
+        partToUpdate.setCategoryId(partDto.getCategoryId());
+        partToUpdate.setSupplierId(partDto.getSupplierId());
+        partToUpdate.setUnitPrice(partDto.getUnitPrice());
+        Part savedPart = partRepository.save(partToUpdate);
+        return partMapperService.toDto(savedPart);
     }
 
     public void deletePart(Long id) {
@@ -77,18 +180,6 @@ public class PartService {
         }
     }
 
-    private PartResponseDto getPartResponseDto(Part part) {
-        CategoryDto categoryDto = validationCategoryService.getCategoryById(part.getCategoryId());
-        SupplierDto supplierDto = validateSupplierService.getSupplierById(part.getSupplierId());
-        PartResponseDto responseDto = new PartResponseDto();
-        responseDto.setName(part.getName());
-        responseDto.setDescription(part.getDescription());
-        responseDto.setCategory(categoryDto);
-        responseDto.setSupplier(supplierDto);
-        responseDto.setUnitPrice(part.getUnitPrice());
-        return responseDto;
-    }
-
     /**
      * Проверяет, существует ли хотя бы одна запчасть с указанной категорией.
      *
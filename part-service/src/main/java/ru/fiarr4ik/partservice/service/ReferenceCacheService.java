@@ -0,0 +1,32 @@
+package ru.fiarr4ik.partservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import ru.fiarr4ik.partservice.dto.CategoryDto;
+import ru.fiarr4ik.partservice.dto.SupplierDto;
+
+/**
+ * Управление локальными кэшами категорий и поставщиков.
+ */
+@Service
+public class ReferenceCacheService {
+
+    private final Cache<Long, CategoryDto> categoryCache;
+    private final Cache<Long, SupplierDto> supplierCache;
+
+    @Autowired
+    public ReferenceCacheService(Cache<Long, CategoryDto> categoryCache, Cache<Long, SupplierDto> supplierCache) {
+        this.categoryCache = categoryCache;
+        this.supplierCache = supplierCache;
+    }
+
+    public void evictCategory(Long categoryId) {
+        categoryCache.invalidate(categoryId);
+    }
+
+    public void evictSupplier(Long supplierId) {
+        supplierCache.invalidate(supplierId);
+    }
+
+}
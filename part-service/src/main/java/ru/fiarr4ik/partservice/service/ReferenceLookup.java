@@ -0,0 +1,34 @@
+package ru.fiarr4ik.partservice.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Справочные записи, полученные по набору ID.
+ *
+ * @param found    найденные записи по ID
+ * @param degraded true, если сервис-справочник не ответил и отсутствующие записи могут существовать
+ * @param <T>      тип записи
+ */
+public record ReferenceLookup<T>(Map<Long, T> found, boolean degraded) {
+
+    /**
+     * Наибольшее число ID в одном пакетном запросе: category-service и supplier-service отклоняют больший набор.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * Делит ID на наборы не больше {@link #MAX_BATCH_SIZE}, по одному на запрос к сервису-справочнику.
+     */
+    static List<List<Long>> batches(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < idList.size(); from += MAX_BATCH_SIZE) {
+            batches.add(idList.subList(from, Math.min(from + MAX_BATCH_SIZE, idList.size())));
+        }
+        return batches;
+    }
+
+}
@@ -0,0 +1,72 @@
+package ru.fiarr4ik.partservice.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import ru.fiarr4ik.partservice.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Проверка ссылок запчасти на категорию и поставщика.
+ * <p>Обе проверки выполняются параллельно, поэтому время записи определяется самым
+ * медленным сервисом, а не суммой их задержек. Общее ожидание ограничено дедлайном.</p>
+ */
+@Service
+public class ReferenceValidationService {
+
+    private final ValidationCategoryService validationCategoryService;
+    private final ValidateSupplierService validateSupplierService;
+    private final Executor validationExecutor;
+    private final Duration timeout;
+
+    @Autowired
+    public ReferenceValidationService(ValidationCategoryService validationCategoryService,
+                                      ValidateSupplierService validateSupplierService,
+                                      @Qualifier("validationExecutor") Executor validationExecutor,
+                                      @Value("${part.validation.timeout:3s}") Duration timeout) {
+        this.validationCategoryService = validationCategoryService;
+        this.validateSupplierService = validateSupplierService;
+        this.validationExecutor = validationExecutor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Проверяет существование категории и поставщика.
+     *
+     * @param categoryId ID категории
+     * @param supplierId ID поставщика
+     * @throws ru.fiarr4ik.partservice.exception.CategoryNotFoundException если категория не найдена
+     * @throws ru.fiarr4ik.partservice.exception.SupplierNotFoundException если поставщик не найден
+     * @throws ServiceUnavailableException если проверки не завершились до дедлайна
+     */
+    public void validate(Long categoryId, Long supplierId) {
+        CompletableFuture<Void> category = CompletableFuture.runAsync(
+                () -> validationCategoryService.validateCategoryExists(categoryId), validationExecutor);
+        CompletableFuture<Void> supplier = CompletableFuture.runAsync(
+                () -> validateSupplierService.validateSupplierExists(supplierId), validationExecutor);
+
+        try {
+            CompletableFuture.allOf(category, supplier).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            category.cancel(true);
+            supplier.cancel(true);
+            throw new ServiceUnavailableException("Не удалось проверить категорию и поставщика за " + timeout.toMillis() + " мс", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Проверка категории и поставщика прервана", e);
+        }
+    }
+
+}
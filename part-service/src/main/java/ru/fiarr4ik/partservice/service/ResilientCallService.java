@@ -0,0 +1,118 @@
+package ru.fiarr4ik.partservice.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import ru.fiarr4ik.partservice.config.ResilienceConfig;
+import ru.fiarr4ik.partservice.exception.ServiceUnavailableException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Выполняет вызов другого сервиса под bulkhead, circuit breaker и time limiter этой зависимости.
+ * <p>Длительность каждого вызова пишется в таймер {@code remote.calls} с тегами {@code dependency}
+ * и {@code outcome}: success, error (ошибка самого вызова, например «не найдено») или fallback
+ * (зависимость недоступна, отказ circuit breaker или bulkhead, таймаут).</p>
+ */
+@Service
+public class ResilientCallService {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final ExecutorService remoteCallExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public ResilientCallService(CircuitBreakerRegistry circuitBreakerRegistry,
+                                BulkheadRegistry bulkheadRegistry,
+                                TimeLimiterRegistry timeLimiterRegistry,
+                                @Qualifier("remoteCallExecutor") ExecutorService remoteCallExecutor,
+                                MeterRegistry meterRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.remoteCallExecutor = remoteCallExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Выполняет вызов; при недоступности зависимости бросает {@link ServiceUnavailableException}.
+     * Прочие исключения вызова (например, «не найдено») пробрасываются как есть.
+     *
+     * @param dependency имя сервиса-зависимости
+     * @param call       вызов
+     * @return результат вызова
+     */
+    public <T> T call(String dependency, Supplier<T> call) {
+        return call(dependency, call, () -> {
+            throw new ServiceUnavailableException("Сервис " + dependency + " временно недоступен");
+        });
+    }
+
+    /**
+     * Выполняет вызов; при недоступности зависимости возвращает результат {@code fallback}.
+     *
+     * @param dependency имя сервиса-зависимости
+     * @param call       вызов
+     * @param fallback   результат для деградированного ответа
+     * @return результат вызова или fallback
+     */
+    public <T> T call(String dependency, Supplier<T> call, Supplier<T> fallback) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(dependency);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(dependency);
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(dependency);
+
+        Callable<T> timed = timeLimiter.decorateFutureSupplier(
+                () -> CompletableFuture.supplyAsync(call, remoteCallExecutor));
+        Callable<T> guarded = Bulkhead.decorateCallable(bulkhead,
+                CircuitBreaker.decorateCallable(circuitBreaker, timed));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = guarded.call();
+            outcome = "success";
+            return result;
+        } catch (CallNotPermittedException | BulkheadFullException | TimeoutException e) {
+            outcome = "fallback";
+            return fallback.get();
+        } catch (RuntimeException e) {
+            if (ResilienceConfig.isDependencyFailure(e)) {
+                outcome = "fallback";
+                return fallback.get();
+            }
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            sample.stop(Timer.builder("remote.calls")
+                    .description("Вызовы других сервисов через ResilientCallService")
+                    .tag("dependency", dependency)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void run(String dependency, Runnable call) {
+        call(dependency, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+}
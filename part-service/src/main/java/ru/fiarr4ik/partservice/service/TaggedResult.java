@@ -0,0 +1,24 @@
+package ru.fiarr4ik.partservice.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Результат чтения вместе с ETag, вычисленным до построения тела ответа.
+ * <p>Тело собирается только при вызове {@link #body()}, поэтому при совпадении ETag
+ * с If-None-Match его можно не строить и не сериализовать. Тег зависит от категорий и поставщиков,
+ * поэтому они к этому моменту уже получены: из кэша справочников или, при промахе, от их сервисов.</p>
+ * <p>Деградированный результат собран без ответа сервиса категорий или поставщиков. Его ETag
+ * не отдается клиенту, а сам ответ не кэшируется.</p>
+ *
+ * @param etag         строгий ETag ответа
+ * @param degraded     true, если часть данных заменена fallback
+ * @param bodySupplier построение тела ответа
+ * @param <T>          тип тела ответа
+ */
+public record TaggedResult<T>(String etag, boolean degraded, Supplier<T> bodySupplier) {
+
+    public T body() {
+        return bodySupplier.get();
+    }
+
+}
@@ -1,29 +1,56 @@
 package ru.fiarr4ik.partservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import ru.fiarr4ik.partservice.dto.SupplierBatchResponseDto;
 import ru.fiarr4ik.partservice.dto.SupplierDto;
 import ru.fiarr4ik.partservice.exception.SupplierNotFoundException;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 public class ValidateSupplierService {
 
+    private static final String DEPENDENCY = "supplier-service";
+
     private final RestTemplate restTemplate;
+    private final Cache<Long, SupplierDto> supplierCache;
+    private final ResilientCallService resilientCallService;
 
     @Autowired
-    public ValidateSupplierService(RestTemplate restTemplate) {
+    public ValidateSupplierService(RestTemplate restTemplate,
+                                   Cache<Long, SupplierDto> supplierCache,
+                                   ResilientCallService resilientCallService) {
         this.restTemplate = restTemplate;
+        this.supplierCache = supplierCache;
+        this.resilientCallService = resilientCallService;
     }
 
     public void validateSupplierExists(Long supplierId) {
         String supplierServiceUrl = "http://supplier-service:8081/api/suppliers/{supplierId}";
 
+        if (supplierCache.getIfPresent(supplierId) != null) {
+            return;
+        }
+
         try {
-            restTemplate.getForEntity(supplierServiceUrl, Void.class, supplierId);
+            SupplierDto supplierDto = resilientCallService.call(DEPENDENCY,
+                    () -> restTemplate.getForObject(supplierServiceUrl, SupplierDto.class, supplierId));
+            if (supplierDto != null) {
+                supplierCache.put(supplierId, supplierDto);
+            }
         } catch (HttpClientErrorException.NotFound e) {
             throw new SupplierNotFoundException(supplierId);
         } catch (RestClientException e) {
@@ -31,17 +58,99 @@ public class ValidateSupplierService {
         }
     }
 
+    /**
+     * Поставщик по ID из локального кэша или из supplier-service.
+     *
+     * @return поставщик или null, если supplier-service недоступен и вместо ответа использован fallback
+     */
     public SupplierDto getSupplierById(Long supplierId) {
-        ResponseEntity<SupplierDto> response = restTemplate.getForEntity(
-                "http://supplier-service:8081/api/suppliers/" + supplierId, SupplierDto.class);
+        SupplierDto cached = supplierCache.getIfPresent(supplierId);
+        if (cached != null) {
+            return cached;
+        }
+
+        ResponseEntity<SupplierDto> response = resilientCallService.call(DEPENDENCY,
+                () -> restTemplate.getForEntity(
+                        "http://supplier-service:8081/api/suppliers/" + supplierId, SupplierDto.class),
+                () -> null);
+        if (response == null) {
+            return null;
+        }
 
         if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
             throw new RuntimeException("Supplier not found");
         }
 
+        supplierCache.put(supplierId, response.getBody());
         return response.getBody();
     }
 
-}
+    /**
+     * Получает поставщиков по набору идентификаторов. Поставщики, которых нет в локальном кэше,
+     * запрашиваются у supplier-service наборами не больше {@link ReferenceLookup#MAX_BATCH_SIZE}.
+     *
+     * @param supplierIds идентификаторы поставщиков
+     * @return найденные поставщики по ID, отсутствующие ID в результат не попадают; признак деградации,
+     *         если supplier-service недоступен и вместо ответа использован fallback
+     */
+    public ReferenceLookup<SupplierDto> getSuppliersByIds(Collection<Long> supplierIds) {
+        if (supplierIds.isEmpty()) {
+            return new ReferenceLookup<>(Collections.emptyMap(), false);
+        }
+
+        Map<Long, SupplierDto> result = new HashMap<>(supplierCache.getAllPresent(supplierIds));
+        Set<Long> missingIds = supplierIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missingIds.isEmpty()) {
+            return new ReferenceLookup<>(result, false);
+        }
 
+        boolean degraded = false;
+        for (List<Long> batch : ReferenceLookup.batches(missingIds)) {
+            SupplierBatchResponseDto response = resilientCallService.call(DEPENDENCY,
+                    () -> restTemplate.postForObject(
+                            "http://supplier-service:8081/api/suppliers/batch", batch, SupplierBatchResponseDto.class),
+                    () -> null);
 
+            if (response == null) {
+                degraded = true;
+            } else if (response.getFound() != null) {
+                supplierCache.putAll(response.getFound());
+                result.putAll(response.getFound());
+            }
+        }
+
+        return new ReferenceLookup<>(result, degraded);
+    }
+
+    /**
+     * Определяет, какие из поставщиков существуют. Отсутствующие в локальном кэше поставщики
+     * запрашиваются у supplier-service наборами не больше {@link ReferenceLookup#MAX_BATCH_SIZE}.
+     * <p>В отличие от {@link #getSuppliersByIds}, недоступность supplier-service не маскируется
+     * пустым результатом, чтобы существующие поставщики не были приняты за отсутствующих.</p>
+     *
+     * @param supplierIds идентификаторы поставщиков
+     * @return идентификаторы существующих поставщиков
+     * @throws ru.fiarr4ik.partservice.exception.ServiceUnavailableException если supplier-service недоступен
+     */
+    public Set<Long> findExistingSupplierIds(Collection<Long> supplierIds) {
+        Set<Long> existing = new HashSet<>(supplierCache.getAllPresent(supplierIds).keySet());
+        Set<Long> missingIds = supplierIds.stream()
+                .filter(id -> !existing.contains(id))
+                .collect(Collectors.toSet());
+
+        for (List<Long> batch : ReferenceLookup.batches(missingIds)) {
+            SupplierBatchResponseDto response = resilientCallService.call(DEPENDENCY,
+                    () -> restTemplate.postForObject(
+                            "http://supplier-service:8081/api/suppliers/batch", batch, SupplierBatchResponseDto.class));
+
+            if (response != null && response.getFound() != null) {
+                supplierCache.putAll(response.getFound());
+                existing.addAll(response.getFound().keySet());
+            }
+        }
+        return existing;
+    }
+
+}
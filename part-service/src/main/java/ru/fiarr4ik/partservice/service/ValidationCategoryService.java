@@ -1,29 +1,56 @@
 package ru.fiarr4ik.partservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import ru.fiarr4ik.partservice.dto.CategoryBatchResponseDto;
 import ru.fiarr4ik.partservice.dto.CategoryDto;
 import ru.fiarr4ik.partservice.exception.CategoryNotFoundException;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 public class ValidationCategoryService {
 
+    private static final String DEPENDENCY = "category-service";
+
     private final RestTemplate restTemplate;
+    private final Cache<Long, CategoryDto> categoryCache;
+    private final ResilientCallService resilientCallService;
 
     @Autowired
-    public ValidationCategoryService(RestTemplate restTemplate) {
+    public ValidationCategoryService(RestTemplate restTemplate,
+                                     Cache<Long, CategoryDto> categoryCache,
+                                     ResilientCallService resilientCallService) {
         this.restTemplate = restTemplate;
+        this.categoryCache = categoryCache;
+        this.resilientCallService = resilientCallService;
     }
 
     public void validateCategoryExists(Long categoryId) {
         String supplierServiceUrl = "http://category-service:8082/api/categories/{categoryId}";
 
+        if (categoryCache.getIfPresent(categoryId) != null) {
+            return;
+        }
+
         try {
-            restTemplate.getForEntity(supplierServiceUrl, Void.class, categoryId);
+            CategoryDto categoryDto = resilientCallService.call(DEPENDENCY,
+                    () -> restTemplate.getForObject(supplierServiceUrl, CategoryDto.class, categoryId));
+            if (categoryDto != null) {
+                categoryCache.put(categoryId, categoryDto);
+            }
         } catch (HttpClientErrorException.NotFound e) {
             throw new CategoryNotFoundException(categoryId);
         } catch (RestClientException e) {
@@ -31,16 +58,107 @@ public class ValidationCategoryService {
         }
     }
 
+    /**
+     * Категория по ID из локального кэша или из category-service.
+     *
+     * @return категория или null, если category-service недоступен и вместо ответа использован fallback
+     */
     public CategoryDto getCategoryById(Long categoryId) {
-        ResponseEntity<CategoryDto> response = restTemplate.getForEntity(
-                "http://category-service:8082/api/categories/" + categoryId, CategoryDto.class);
+        CategoryDto cached = categoryCache.getIfPresent(categoryId);
+        if (cached != null) {
+            return cached;
+        }
+
+        ResponseEntity<CategoryDto> response = resilientCallService.call(DEPENDENCY,
+                () -> restTemplate.getForEntity(
+                        "http://category-service:8082/api/categories/" + categoryId, CategoryDto.class),
+                () -> null);
+        if (response == null) {
+            return null;
+        }
 
         if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
             throw new RuntimeException("Category not found");
         }
 
+        categoryCache.put(categoryId, response.getBody());
         return response.getBody();
     }
 
-}
+    /**
+     * Получает категории по набору идентификаторов. Категории, которых нет в локальном кэше,
+     * запрашиваются у category-service наборами не больше {@link ReferenceLookup#MAX_BATCH_SIZE}.
+     *
+     * @param categoryIds идентификаторы категорий
+     * @return найденные категории по ID, отсутствующие ID в результат не попадают; признак деградации,
+     *         если category-service недоступен и вместо ответа использован fallback
+     */
+    public ReferenceLookup<CategoryDto> getCategoriesByIds(Collection<Long> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return new ReferenceLookup<>(Collections.emptyMap(), false);
+        }
+
+        Map<Long, CategoryDto> result = new HashMap<>(categoryCache.getAllPresent(categoryIds));
+        Set<Long> missingIds = categoryIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missingIds.isEmpty()) {
+            return new ReferenceLookup<>(result, false);
+        }
+
+        boolean degraded = false;
+        for (List<Long> batch : ReferenceLookup.batches(missingIds)) {
+            String ids = toParam(batch);
+            CategoryBatchResponseDto response = resilientCallService.call(DEPENDENCY,
+                    () -> restTemplate.getForObject(
+                            "http://category-service:8082/api/categories?ids={ids}", CategoryBatchResponseDto.class, ids),
+                    () -> null);
 
+            if (response == null) {
+                degraded = true;
+            } else if (response.getFound() != null) {
+                categoryCache.putAll(response.getFound());
+                result.putAll(response.getFound());
+            }
+        }
+
+        return new ReferenceLookup<>(result, degraded);
+    }
+
+    /**
+     * Определяет, какие из категорий существуют. Отсутствующие в локальном кэше категории
+     * запрашиваются у category-service наборами не больше {@link ReferenceLookup#MAX_BATCH_SIZE}.
+     * <p>В отличие от {@link #getCategoriesByIds}, недоступность category-service не маскируется
+     * пустым результатом, чтобы существующие категории не были приняты за отсутствующие.</p>
+     *
+     * @param categoryIds идентификаторы категорий
+     * @return идентификаторы существующих категорий
+     * @throws ru.fiarr4ik.partservice.exception.ServiceUnavailableException если category-service недоступен
+     */
+    public Set<Long> findExistingCategoryIds(Collection<Long> categoryIds) {
+        Set<Long> existing = new HashSet<>(categoryCache.getAllPresent(categoryIds).keySet());
+        Set<Long> missingIds = categoryIds.stream()
+                .filter(id -> !existing.contains(id))
+                .collect(Collectors.toSet());
+
+        for (List<Long> batch : ReferenceLookup.batches(missingIds)) {
+            String ids = toParam(batch);
+            CategoryBatchResponseDto response = resilientCallService.call(DEPENDENCY,
+                    () -> restTemplate.getForObject(
+                            "http://category-service:8082/api/categories?ids={ids}", CategoryBatchResponseDto.class, ids));
+
+            if (response != null && response.getFound() != null) {
+                categoryCache.putAll(response.getFound());
+                existing.addAll(response.getFound().keySet());
+            }
+        }
+        return existing;
+    }
+
+    private static String toParam(List<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+}
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS parts
+(
+    part_id     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    category_id BIGINT,
+    supplier_id BIGINT,
+    unit_price  FLOAT(53) NOT NULL
+);
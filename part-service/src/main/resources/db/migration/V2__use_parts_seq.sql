@@ -0,0 +1,3 @@
+CREATE SEQUENCE IF NOT EXISTS parts_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('parts_seq', COALESCE((SELECT MAX(part_id) FROM parts), 0) + 50, false);
+ALTER TABLE parts ALTER COLUMN part_id DROP IDENTITY IF EXISTS;
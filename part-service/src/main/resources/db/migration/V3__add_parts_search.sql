@@ -0,0 +1,14 @@
+-- Полнотекстовый поиск по запчастям: взвешенный tsvector по названию и описанию хранится в генерируемой колонке,
+-- триграммный индекс по названию позволяет находить запчасти по названию с опечатками.
+-- Конфигурация simple не отбрасывает слова и не приводит их к основе, поэтому префиксный поиск одинаково работает
+-- для русских и латинских названий.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE parts
+    ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_parts_search_vector ON parts USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_parts_name_trgm ON parts USING GIN (name gin_trgm_ops);
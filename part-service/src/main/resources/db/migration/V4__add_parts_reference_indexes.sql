@@ -0,0 +1,4 @@
+-- Индексы для проверок ссылок из сервисов категорий и поставщиков перед удалением:
+-- EXISTS по category_id / supplier_id выполняется как index-only scan до первой найденной строки.
+CREATE INDEX IF NOT EXISTS idx_parts_category_id ON parts (category_id);
+CREATE INDEX IF NOT EXISTS idx_parts_supplier_id ON parts (supplier_id);
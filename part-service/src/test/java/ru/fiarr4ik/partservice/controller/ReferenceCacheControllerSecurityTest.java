@@ -0,0 +1,93 @@
+package ru.fiarr4ik.partservice.controller;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.fiarr4ik.partservice.security.CustomAuthenticationEntryPoint;
+import ru.fiarr4ik.partservice.security.ServiceTokenProvider;
+import ru.fiarr4ik.partservice.security.config.SecurityConfig;
+import ru.fiarr4ik.partservice.service.ReferenceCacheService;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Сброс кэша справочников доступен только с токеном сервиса: пользовательский токен того же издателя
+ * и с той же подписью получает 403.
+ */
+@WebMvcTest(controllers = ReferenceCacheController.class,
+        properties = "security.jwt.secret=" + ReferenceCacheControllerSecurityTest.SECRET)
+@Import({SecurityConfig.class, CustomAuthenticationEntryPoint.class})
+class ReferenceCacheControllerSecurityTest {
+
+    static final String SECRET = "part-reference-cache-security-test-secret-0123456789";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReferenceCacheService referenceCacheService;
+
+    @Test
+    void serviceTokenEvictsCategory() throws Exception {
+        String token = new ServiceTokenProvider(SECRET, "category-service", Duration.ofMinutes(10)).token();
+
+        mockMvc.perform(delete("/api/parts/cache/categories/42")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        verify(referenceCacheService).evictCategory(42L);
+    }
+
+    @Test
+    void userTokenIsForbidden() throws Exception {
+        mockMvc.perform(delete("/api/parts/cache/suppliers/42")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken()))
+                .andExpect(status().isForbidden());
+
+        verify(referenceCacheService, never()).evictSupplier(42L);
+    }
+
+    @Test
+    void missingTokenIsUnauthorized() throws Exception {
+        mockMvc.perform(delete("/api/parts/cache/categories/42"))
+                .andExpect(status().isUnauthorized());
+
+        verify(referenceCacheService, never()).evictCategory(42L);
+    }
+
+    /**
+     * Токен в том виде, в каком его выпускает security-service после входа пользователя.
+     */
+    private static String userToken() {
+        SecretKeySpec key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("security-service")
+                .subject("user")
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofMinutes(15)))
+                .build();
+        return new NimbusJwtEncoder(new ImmutableSecret<>(key))
+                .encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+
+}
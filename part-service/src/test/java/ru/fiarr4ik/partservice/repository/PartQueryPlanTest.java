@@ -0,0 +1,59 @@
+package ru.fiarr4ik.partservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверки ссылок на категории и поставщиков перед их удалением выполняются по индексу, а не перебором таблицы:
+ * поиск останавливается на первой строке индекса, в том числе когда ссылок нет.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PartQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).table("part_schema_history").load().migrate();
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("INSERT INTO parts (part_id, category_id, supplier_id, unit_price) "
+                + "SELECT i, i % 1000, i % 5000, 1 FROM generate_series(1, 200000) AS i");
+        jdbcTemplate.getJdbcTemplate().execute("VACUUM ANALYZE parts");
+    }
+
+    @ParameterizedTest(name = "{0} = {1}")
+    @CsvSource({
+            "categoryId, 42, idx_parts_category_id",
+            "categoryId, 1000000, idx_parts_category_id",
+            "supplierId, 42, idx_parts_supplier_id",
+            "supplierId, 1000000, idx_parts_supplier_id"
+    })
+    void existenceCheckUsesIndexOnlyScan(String parameter, long value, String index) {
+        String query = parameter.equals("categoryId")
+                ? PartRepository.EXISTS_BY_CATEGORY_ID
+                : PartRepository.EXISTS_BY_SUPPLIER_ID;
+
+        String plan = String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN " + query, Map.of(parameter, value), String.class));
+
+        assertThat(plan).contains("Index Only Scan using " + index).doesNotContain("Seq Scan");
+    }
+
+}
@@ -0,0 +1,167 @@
+package ru.fiarr4ik.partservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+import ru.fiarr4ik.partservice.config.ResilienceConfig;
+import ru.fiarr4ik.partservice.dto.CategoryDto;
+import ru.fiarr4ik.partservice.security.CustomAuthenticationEntryPoint;
+import ru.fiarr4ik.partservice.security.ServiceTokenInterceptor;
+import ru.fiarr4ik.partservice.security.ServiceTokenProvider;
+import ru.fiarr4ik.partservice.security.config.SecurityConfig;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Вызов part-service → category-service при включенной аутентификации на стороне category-service.
+ * <p>Заглушка category-service проверяет токен так же, как сервисы: декодером из {@link SecurityConfig}
+ * (HS256, общий ключ, издатель security-service). Адрес {@code category-service:8082} подменяется адресом
+ * заглушки, как это делает балансировщик.</p>
+ */
+class ValidationCategoryServiceSecurityTest {
+
+    private static final String SECRET = "part-category-security-test-secret-0123456789";
+
+    private final List<String> authenticatedSubjects = new CopyOnWriteArrayList<>();
+
+    private HttpServer categoryService;
+    private ExecutorService remoteCallExecutor;
+    private ResilientCallService resilientCallService;
+    private Cache<Long, CategoryDto> categoryCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        JwtDecoder jwtDecoder = new SecurityConfig(new CustomAuthenticationEntryPoint()).jwtDecoder(SECRET);
+        categoryService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        categoryService.createContext("/api/categories/", exchange -> handleCategory(exchange, jwtDecoder));
+        categoryService.start();
+
+        ResilienceConfig resilienceConfig = new ResilienceConfig();
+        remoteCallExecutor = resilienceConfig.remoteCallExecutor(false);
+        resilientCallService = new ResilientCallService(
+                resilienceConfig.circuitBreakerRegistry(50, Duration.ofSeconds(2), 20, Duration.ofSeconds(10)),
+                resilienceConfig.bulkheadRegistry(25, Duration.ZERO),
+                resilienceConfig.timeLimiterRegistry(Duration.ofSeconds(2)),
+                remoteCallExecutor,
+                new SimpleMeterRegistry());
+        categoryCache = Caffeine.newBuilder().maximumSize(100).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryService.stop(0);
+        remoteCallExecutor.shutdown();
+    }
+
+    @Test
+    void callIsAuthenticatedWithServiceToken() {
+        ServiceTokenProvider tokenProvider = new ServiceTokenProvider(SECRET, "part-service", Duration.ofMinutes(10));
+        ValidationCategoryService service = new ValidationCategoryService(
+                restTemplate(new ServiceTokenInterceptor(tokenProvider)), categoryCache, resilientCallService);
+
+        service.validateCategoryExists(7L);
+
+        assertThat(authenticatedSubjects).containsExactly("part-service");
+        assertThat(categoryCache.getIfPresent(7L)).isNotNull();
+    }
+
+    @Test
+    void callWithoutTokenIsRejected() {
+        ValidationCategoryService service = new ValidationCategoryService(
+                restTemplate(), categoryCache, resilientCallService);
+
+        assertThatThrownBy(() -> service.validateCategoryExists(7L))
+                .hasCauseInstanceOf(HttpClientErrorException.Unauthorized.class);
+        assertThat(authenticatedSubjects).isEmpty();
+    }
+
+    @Test
+    void tokenSignedWithAnotherSecretIsRejected() {
+        ServiceTokenProvider tokenProvider = new ServiceTokenProvider(
+                "another-secret-of-sufficient-length-0123456789", "part-service", Duration.ofMinutes(10));
+        ValidationCategoryService service = new ValidationCategoryService(
+                restTemplate(new ServiceTokenInterceptor(tokenProvider)), categoryCache, resilientCallService);
+
+        assertThatThrownBy(() -> service.validateCategoryExists(7L))
+                .hasCauseInstanceOf(HttpClientErrorException.Unauthorized.class);
+    }
+
+    private RestTemplate restTemplate(ClientHttpRequestInterceptor... interceptors) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().addAll(List.of(interceptors));
+        restTemplate.getInterceptors().add(this::routeToCategoryService);
+        return restTemplate;
+    }
+
+    private ClientHttpResponse routeToCategoryService(HttpRequest request, byte[] body,
+                                                      ClientHttpRequestExecution execution) throws IOException {
+        URI target = UriComponentsBuilder.fromUri(request.getURI())
+                .host("localhost")
+                .port(categoryService.getAddress().getPort())
+                .build(true)
+                .toUri();
+        return execution.execute(new HttpRequestWrapper(request) {
+            @Override
+            public URI getURI() {
+                return target;
+            }
+        }, body);
+    }
+
+    private void handleCategory(HttpExchange exchange, JwtDecoder jwtDecoder) throws IOException {
+        String subject = authenticate(exchange.getRequestHeaders().getFirst("Authorization"), jwtDecoder);
+        if (subject == null) {
+            respond(exchange, 401, "{\"error\": \"Ошибка аутентификации\"}");
+            return;
+        }
+        authenticatedSubjects.add(subject);
+        respond(exchange, 200, "{\"name\": \"Тормоза\", \"description\": \"Тормозная система\"}");
+    }
+
+    private static String authenticate(String header, JwtDecoder jwtDecoder) {
+        if (header == null || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            Jwt jwt = jwtDecoder.decode(header.substring("Bearer ".length()));
+            return jwt.getSubject();
+        } catch (JwtException e) {
+            return null;
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+}
@@ -0,0 +1,40 @@
+package ru.fiarr4ik.securityservice.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.fiarr4ik.securityservice.dto.LoginRequest;
+import ru.fiarr4ik.securityservice.dto.TokenResponse;
+import ru.fiarr4ik.securityservice.service.TokenService;
+
+@RestController
+@RequestMapping("/auth/login")
+public class LoginController {
+
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+
+    public LoginController(AuthenticationManager authenticationManager, TokenService tokenService) {
+        this.authenticationManager = authenticationManager;
+        this.tokenService = tokenService;
+    }
+
+    @PostMapping
+    public ResponseEntity<TokenResponse> login(@RequestBody LoginRequest request) {
+        try {
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
+            return ResponseEntity.ok(tokenService.issueToken(authentication.getName()));
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+}
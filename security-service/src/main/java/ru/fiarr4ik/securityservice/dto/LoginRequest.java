@@ -0,0 +1,13 @@
+package ru.fiarr4ik.securityservice.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class LoginRequest {
+
+    private String username;
+    private String password;
+
+}
@@ -1,12 +1,22 @@
 package ru.fiarr4ik.securityservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.fiarr4ik.securityservice.model.User;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Проверка занятости имени пользователя: поиск выполняется по уникальному индексу uk_users_username.
+     */
+    String EXISTS_BY_USERNAME = "SELECT EXISTS (SELECT 1 FROM users WHERE username = :username)";
+
     Optional<User> findByUsername(String username);
 
+    @Query(value = EXISTS_BY_USERNAME, nativeQuery = true)
+    boolean existsByUsername(@Param("username") String username);
+
 }
@@ -0,0 +1,46 @@
+package ru.fiarr4ik.securityservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+import ru.fiarr4ik.securityservice.dto.TokenResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Выпуск подписанных токенов доступа (JWT, HS256).
+ * Сервисы проверяют подпись локально, не обращаясь к таблице пользователей.
+ */
+@Service
+public class TokenService {
+
+    public static final String ISSUER = "security-service";
+
+    private final JwtEncoder jwtEncoder;
+    private final Duration ttl;
+
+    public TokenService(JwtEncoder jwtEncoder,
+                        @Value("${security.jwt.ttl:15m}") Duration ttl) {
+        this.jwtEncoder = jwtEncoder;
+        this.ttl = ttl;
+    }
+
+    public TokenResponse issueToken(String username) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(username)
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        return new TokenResponse(token, "Bearer", ttl.toSeconds());
+    }
+
+}
@@ -18,7 +18,7 @@ public class UserService {
     }
 
     public boolean registerUser(String username, String rawPassword) {
-        if (userRepository.findByUsername(username).isPresent()) {
+        if (userRepository.existsByUsername(username)) {
             return false;
         }
         User user = new User();
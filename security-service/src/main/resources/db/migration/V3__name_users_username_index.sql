@@ -0,0 +1,22 @@
+-- Уникальность имени пользователя обеспечивается именованным уникальным индексом, объявленным в сущности User.
+-- Прежнее ограничение UNIQUE имело сгенерированное имя, поэтому удаляется по столбцу.
+DO
+$$
+    DECLARE
+        constraint_name TEXT;
+    BEGIN
+        FOR constraint_name IN
+            SELECT con.conname
+            FROM pg_constraint con
+                     JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+            WHERE con.conrelid = 'users'::regclass
+              AND con.contype = 'u'
+              AND cardinality(con.conkey) = 1
+              AND att.attname = 'username'
+            LOOP
+                EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', constraint_name);
+            END LOOP;
+    END
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username ON users (username);
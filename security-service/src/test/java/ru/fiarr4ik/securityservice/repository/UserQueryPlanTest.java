@@ -0,0 +1,53 @@
+package ru.fiarr4ik.securityservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверка занятости имени при регистрации и поиск пользователя при входе выполняются по индексу
+ * uk_users_username.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).table("security_schema_history").load().migrate();
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("INSERT INTO users (id, username, password) "
+                + "SELECT i, 'user' || i, '' FROM generate_series(1, 100000) AS i");
+        jdbcTemplate.getJdbcTemplate().execute("VACUUM ANALYZE users");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            UserRepository.EXISTS_BY_USERNAME,
+            "SELECT id, username, password FROM users WHERE username = :username"
+    })
+    void usernameLookupUsesIndex(String query) {
+        String plan = String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN " + query, Map.of("username", "user42"), String.class));
+
+        assertThat(plan).contains("using uk_users_username").doesNotContain("Seq Scan");
+    }
+
+}
@@ -0,0 +1,33 @@
+package ru.fiarr4ik.supplierservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Исполнитель для сброса кэша part-service после записи поставщика.
+     * <p>Запросы к экземплярам part-service отправляются параллельно и не задерживают ответ на запись.
+     * Очередь ограничена: если part-service не успевает, лишние сбросы отклоняются, а записи
+     * на его экземплярах истекают по TTL.</p>
+     */
+    @Bean
+    public AsyncTaskExecutor partCacheEvictionExecutor(
+            @Value("${part-cache-eviction.pool-size:4}") int poolSize,
+            @Value("${part-cache-eviction.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("part-cache-eviction-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+}
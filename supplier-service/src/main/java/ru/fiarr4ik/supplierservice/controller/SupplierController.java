@@ -1,5 +1,7 @@
 package ru.fiarr4ik.supplierservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,6 +12,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,11 +21,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.fiarr4ik.supplierservice.dto.ErrorResponseDto;
+import ru.fiarr4ik.supplierservice.dto.PageResponseDto;
+import ru.fiarr4ik.supplierservice.dto.SupplierBatchResponseDto;
 import ru.fiarr4ik.supplierservice.dto.SupplierDto;
+import ru.fiarr4ik.supplierservice.service.EntityTagService;
 import ru.fiarr4ik.supplierservice.service.SupplierService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -35,33 +46,86 @@ import java.util.List;
 public class SupplierController {
 
     private final SupplierService supplierService;
+    private final EntityTagService entityTagService;
+    private final ObjectWriter objectWriter;
 
     @Autowired
-    public SupplierController(SupplierService supplierService) {
+    public SupplierController(SupplierService supplierService,
+                              EntityTagService entityTagService,
+                              ObjectMapper objectMapper) {
         this.supplierService = supplierService;
+        this.entityTagService = entityTagService;
+        this.objectWriter = objectMapper.writer();
     }
 
     /**
-     * Получить список всех поставщиков.
+     * Получить страницу поставщиков.
      *
-     * @return Список поставщиков
+     * @param cursor Курсор, полученный с предыдущей страницей
+     * @param limit Размер страницы
+     * @return Страница поставщиков
      */
     @GetMapping
     @Operation(
-            summary = "Получить всех поставщиков",
-            description = "Возвращает список всех поставщиков в системе"
+            summary = "Получить страницу поставщиков",
+            description = "Поставщики упорядочены по ID. Для следующей страницы передайте nextCursor из ответа в параметре cursor"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Список поставщиков успешно получен",
+                    description = "Страница поставщиков успешно получена",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = List.class))
+                            schema = @Schema(implementation = PageResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Страница не изменилась с момента запроса, указанного в If-None-Match"
             )
     })
-    public ResponseEntity<List<SupplierDto>> getAllSuppliers() {
-        List<SupplierDto> suppliers = supplierService.getAllSuppliers();
-        return ResponseEntity.ok(suppliers);
+    public ResponseEntity<PageResponseDto<SupplierDto>> getSuppliers(
+            @Parameter(description = "Курсор, полученный с предыдущей страницей")
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @Parameter(description = "Размер страницы, не более " + SupplierService.MAX_PAGE_SIZE)
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            WebRequest request) {
+        PageResponseDto<SupplierDto> suppliers = supplierService.getSuppliers(cursor, limit);
+        String etag = entityTagService.tagOf(suppliers);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(suppliers);
+    }
+
+    /**
+     * Выгрузить всех поставщиков потоком NDJSON.
+     *
+     * @return Поток поставщиков, по одному JSON-объекту в строке
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Выгрузить всех поставщиков потоком NDJSON",
+            description = "Каждая строка ответа — отдельный поставщик в формате JSON"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Выгрузка поставщиков",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = SupplierDto.class))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportSuppliers() {
+        StreamingResponseBody body = outputStream -> supplierService.exportSuppliers(supplier -> {
+            try {
+                outputStream.write(objectWriter.writeValueAsBytes(supplier));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -82,6 +146,10 @@ public class SupplierController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = SupplierDto.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Поставщик не изменился с момента запроса, указанного в If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Поставщик не найден",
@@ -91,9 +159,46 @@ public class SupplierController {
     })
     public ResponseEntity<SupplierDto> getSupplierById(
             @Parameter(description = "ID поставщика", required = true)
-            @PathVariable(name = "id") Long id) {
+            @PathVariable(name = "id") Long id,
+            WebRequest request) {
         SupplierDto supplier = supplierService.getSupplierById(id);
-        return ResponseEntity.ok(supplier);
+        String etag = entityTagService.tagOf(supplier);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(supplier);
+    }
+
+    /**
+     * Получить поставщиков по набору ID.
+     *
+     * @param ids Идентификаторы поставщиков
+     * @return Найденные поставщики по ID и список отсутствующих ID
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Получить поставщиков по списку ID",
+            description = "Возвращает найденных поставщиков по их идентификаторам и список ID, для которых поставщик не найден"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Поставщики получены",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SupplierBatchResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Передано больше " + SupplierService.MAX_BATCH_SIZE + " ID",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDto.class))
+            )
+    })
+    public ResponseEntity<SupplierBatchResponseDto> getSuppliersByIds(
+            @Parameter(description = "Идентификаторы поставщиков, не более " + SupplierService.MAX_BATCH_SIZE, required = true)
+            @RequestBody List<Long> ids) {
+        SupplierBatchResponseDto suppliers = supplierService.getSuppliersByIds(ids);
+        return ResponseEntity.ok(suppliers);
     }
 
     /**
@@ -0,0 +1,28 @@
+package ru.fiarr4ik.supplierservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DTO результата пакетного получения поставщиков.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Результат пакетного получения поставщиков")
+public class SupplierBatchResponseDto {
+
+    @Schema(description = "Найденные поставщики по их ID")
+    private Map<Long, SupplierDto> found;
+
+    @Schema(description = "ID, для которых поставщики не найдены", example = "[42]")
+    private Set<Long> missingIds;
+
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,11 +17,15 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "supplier")
+@Table(name = "supplier", indexes = {
+        @Index(name = "uk_supplier_phone", columnList = "phone", unique = true),
+        @Index(name = "uk_supplier_email", columnList = "email", unique = true)
+})
 public class Supplier {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "supplier_seq")
+    @SequenceGenerator(name = "supplier_seq", sequenceName = "supplier_seq", allocationSize = 50)
     @Column(name = "supplier_id", nullable = false)
     private Long supplierId;
 
@@ -29,10 +35,10 @@ public class Supplier {
     @Column(name = "contact_person")
     private String contactPerson;
 
-    @Column(name = "phone", unique = true)
+    @Column(name = "phone")
     private String phone;
 
-    @Column(name = "email", unique = true)
+    @Column(name = "email")
     private String email;
 
     @Column(name = "address")
@@ -0,0 +1,29 @@
+package ru.fiarr4ik.supplierservice.event;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.fiarr4ik.supplierservice.rest.PartCacheEvictionClient;
+
+/**
+ * Сбрасывает поставщика из кэша part-service после изменения.
+ * <p>Запись сбрасывается на каждом экземпляре part-service после фиксации транзакции, в фоновых потоках:
+ * ответ на запись не ждет part-service. Ошибка сброса логируется и не прерывает операцию: на экземпляре,
+ * где сброс не удался, запись истечет по TTL.</p>
+ */
+@Component
+public class SupplierCacheInvalidationListener {
+
+    private final PartCacheEvictionClient partCacheEvictionClient;
+
+    @Autowired
+    public SupplierCacheInvalidationListener(PartCacheEvictionClient partCacheEvictionClient) {
+        this.partCacheEvictionClient = partCacheEvictionClient;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSupplierChanged(SupplierChangedEvent event) {
+        partCacheEvictionClient.evictSupplier(event.getSupplierId());
+    }
+
+}
@@ -0,0 +1,15 @@
+package ru.fiarr4ik.supplierservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Событие изменения или удаления поставщика.
+ */
+@Getter
+@AllArgsConstructor
+public class SupplierChangedEvent {
+
+    private final Long supplierId;
+
+}
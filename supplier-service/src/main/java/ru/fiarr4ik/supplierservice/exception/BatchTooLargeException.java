@@ -0,0 +1,9 @@
+package ru.fiarr4ik.supplierservice.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+
+    public BatchTooLargeException(String message) {
+        super(message);
+    }
+
+}
@@ -34,9 +34,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(new ErrorResponseDto(List.of(ex.getMessage())), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ErrorResponseDto> handleBatchTooLarge(BatchTooLargeException ex) {
+        return new ResponseEntity<>(new ErrorResponseDto(List.of(ex.getMessage())), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<String> handleIllegalArgumentException(IllegalStateException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getLocalizedMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<String> handleServiceUnavailable(ServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ex.getMessage());
+    }
+
 }
@@ -0,0 +1,20 @@
+package ru.fiarr4ik.supplierservice.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import ru.fiarr4ik.supplierservice.dto.SupplierDto;
+import ru.fiarr4ik.supplierservice.entity.Supplier;
+
+/**
+ * Преобразования поставщика, генерируемые MapStruct при компиляции.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface SupplierMapper {
+
+    SupplierDto toDto(Supplier supplier);
+
+    @Mapping(target = "supplierId", ignore = true)
+    Supplier toEntity(SupplierDto dto);
+
+}
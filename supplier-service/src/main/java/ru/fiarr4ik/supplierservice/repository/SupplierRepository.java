@@ -1,10 +1,19 @@
 package ru.fiarr4ik.supplierservice.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.fiarr4ik.supplierservice.entity.Supplier;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Репозиторий для работы с сущностью {@link Supplier}.
@@ -12,10 +21,29 @@ import java.util.Optional;
 @Repository
 public interface SupplierRepository extends JpaRepository<Supplier, Long> {
 
+    /**
+     * Проверка занятости телефона: поиск выполняется по уникальному индексу uk_supplier_phone.
+     */
+    String EXISTS_BY_PHONE = "SELECT EXISTS (SELECT 1 FROM supplier WHERE phone = :phone)";
+
+    /**
+     * Проверка занятости email: поиск выполняется по уникальному индексу uk_supplier_email.
+     */
+    String EXISTS_BY_EMAIL = "SELECT EXISTS (SELECT 1 FROM supplier WHERE email = :email)";
+
     Optional<Supplier> findBySupplierId(Long supplierId);
 
-    boolean existsByPhone(String phone);
+    List<Supplier> findAllBySupplierIdIn(Collection<Long> supplierIds);
+
+    List<Supplier> findBySupplierIdGreaterThanOrderBySupplierIdAsc(Long supplierId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Supplier> streamAllByOrderBySupplierIdAsc();
+
+    @Query(value = EXISTS_BY_PHONE, nativeQuery = true)
+    boolean existsByPhone(@Param("phone") String phone);
 
-    boolean existsByEmail(String email);
+    @Query(value = EXISTS_BY_EMAIL, nativeQuery = true)
+    boolean existsByEmail(@Param("email") String email);
 
 }
@@ -0,0 +1,103 @@
+package ru.fiarr4ik.supplierservice.rest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import ru.fiarr4ik.supplierservice.security.ServiceTokenInterceptor;
+import ru.fiarr4ik.supplierservice.service.ResilientCallService;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Сброс записей кэша справочников на всех экземплярах part-service.
+ * <p>Каждый экземпляр part-service держит собственный кэш, поэтому запрос отправляется напрямую
+ * на адрес каждого экземпляра из реестра, а не через балансировщик. Запросы к экземплярам выполняются
+ * параллельно в {@code partCacheEvictionExecutor}, поэтому медленный part-service не задерживает запись.
+ * Неудачный сброс на экземпляре логируется и не мешает сбросу на остальных.</p>
+ */
+@Slf4j
+@Component
+public class PartCacheEvictionClient {
+
+    private static final String SERVICE_ID = "part-service";
+    private static final String DEPENDENCY = "part-service-cache";
+
+    private final DiscoveryClient discoveryClient;
+    private final RestClient restClient;
+    private final ResilientCallService resilientCallService;
+    private final AsyncTaskExecutor partCacheEvictionExecutor;
+
+    @Autowired
+    public PartCacheEvictionClient(DiscoveryClient discoveryClient,
+                                   RestClient.Builder restClientBuilder,
+                                   ResilientCallService resilientCallService,
+                                   ServiceTokenInterceptor serviceTokenInterceptor,
+                                   @Qualifier("partCacheEvictionExecutor") AsyncTaskExecutor partCacheEvictionExecutor,
+                                   @Value("${part-cache-eviction.connect-timeout:1s}") Duration connectTimeout,
+                                   @Value("${part-cache-eviction.read-timeout:2s}") Duration readTimeout) {
+        this.discoveryClient = discoveryClient;
+        this.restClient = restClientBuilder
+                .requestFactory(ClientHttpRequestFactories.get(ClientHttpRequestFactorySettings.DEFAULTS
+                        .withConnectTimeout(connectTimeout)
+                        .withReadTimeout(readTimeout)))
+                .requestInterceptor(serviceTokenInterceptor)
+                .build();
+        this.resilientCallService = resilientCallService;
+        this.partCacheEvictionExecutor = partCacheEvictionExecutor;
+    }
+
+    /**
+     * Сбрасывает поставщика из кэша всех экземпляров part-service.
+     *
+     * @param supplierId ID поставщика
+     */
+    public void evictSupplier(Long supplierId) {
+        evict("/api/parts/cache/suppliers/{id}", supplierId);
+    }
+
+    private void evict(String path, Long id) {
+        List<ServiceInstance> instances = discoveryClient.getInstances(SERVICE_ID);
+        if (instances.isEmpty()) {
+            log.warn("В реестре нет экземпляров {}: запись {} не сброшена из кэша", SERVICE_ID, id);
+            return;
+        }
+
+        for (ServiceInstance instance : instances) {
+            URI uri = UriComponentsBuilder.fromUri(instance.getUri())
+                    .path(path)
+                    .buildAndExpand(id)
+                    .toUri();
+            try {
+                partCacheEvictionExecutor.execute(() -> evict(instance, uri, id));
+            } catch (TaskRejectedException e) {
+                log.warn("Очередь сброса кэша заполнена: запись {} не сброшена на экземпляре {}",
+                        id, instance.getInstanceId());
+            }
+        }
+    }
+
+    private void evict(ServiceInstance instance, URI uri, Long id) {
+        try {
+            resilientCallService.run(DEPENDENCY, () -> restClient.delete()
+                    .uri(uri)
+                    .retrieve()
+                    .toBodilessEntity());
+        } catch (RuntimeException e) {
+            log.warn("Не удалось сбросить запись {} из кэша экземпляра {} ({})",
+                    id, instance.getInstanceId(), uri, e);
+        }
+    }
+
+}
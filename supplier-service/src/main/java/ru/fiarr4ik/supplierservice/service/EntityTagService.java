@@ -0,0 +1,49 @@
+package ru.fiarr4ik.supplierservice.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import ru.fiarr4ik.supplierservice.dto.PageResponseDto;
+import ru.fiarr4ik.supplierservice.dto.SupplierDto;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Вычисление строгих ETag для ответов с поставщиками.
+ * <p>Тег строится как MD5 от значений полей в порядке их вывода в ответе, поэтому меняется
+ * вместе с телом ответа и совпадает на всех экземплярах сервиса. Сериализация в JSON для этого не нужна.</p>
+ */
+@Service
+public class EntityTagService {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final char NULL_VALUE = '\u0000';
+
+    public String tagOf(SupplierDto supplier) {
+        StringBuilder fields = new StringBuilder();
+        appendSupplier(fields, supplier);
+        return toTag(fields);
+    }
+
+    public String tagOf(PageResponseDto<SupplierDto> page) {
+        StringBuilder fields = new StringBuilder();
+        page.getItems().forEach(supplier -> appendSupplier(fields, supplier));
+        append(fields, page.getNextCursor());
+        return toTag(fields);
+    }
+
+    private static void appendSupplier(StringBuilder fields, SupplierDto supplier) {
+        append(fields, supplier.getName(), supplier.getContactPerson(), supplier.getPhone(),
+                supplier.getEmail(), supplier.getAddress());
+    }
+
+    private static void append(StringBuilder fields, Object... values) {
+        for (Object value : values) {
+            fields.append(value == null ? NULL_VALUE : value).append(SEPARATOR);
+        }
+    }
+
+    private static String toTag(StringBuilder fields) {
+        return "\"" + DigestUtils.md5DigestAsHex(fields.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+}
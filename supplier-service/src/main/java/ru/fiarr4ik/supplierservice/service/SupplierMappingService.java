@@ -1,31 +1,31 @@
 package ru.fiarr4ik.supplierservice.service;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import ru.fiarr4ik.supplierservice.dto.SupplierDto;
 import ru.fiarr4ik.supplierservice.entity.Supplier;
+import ru.fiarr4ik.supplierservice.mapper.SupplierMapper;
 
 /**
  * Сервис для конвертации сущностей в DTO и наоборот.
- * <p>Для конвертации используется {@link org.modelmapper.ModelMapper}.</p>
+ * <p>Для конвертации используется {@link SupplierMapper}, реализацию которого MapStruct генерирует при компиляции.</p>
  */
 @Service
 public class SupplierMappingService {
 
-    private final ModelMapper modelMapper;
+    private final SupplierMapper supplierMapper;
 
     @Autowired
-    public SupplierMappingService(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+    public SupplierMappingService(SupplierMapper supplierMapper) {
+        this.supplierMapper = supplierMapper;
     }
 
     public SupplierDto toDto(Supplier supplier) {
-        return modelMapper.map(supplier, SupplierDto.class);
+        return supplierMapper.toDto(supplier);
     }
 
     public Supplier toEntity(SupplierDto dto) {
-        return modelMapper.map(dto, Supplier.class);
+        return supplierMapper.toEntity(dto);
     }
 
 }
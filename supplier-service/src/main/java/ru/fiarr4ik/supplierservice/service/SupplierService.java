@@ -1,30 +1,60 @@
 package ru.fiarr4ik.supplierservice.service;
 
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.fiarr4ik.supplierservice.dto.PageResponseDto;
+import ru.fiarr4ik.supplierservice.dto.SupplierBatchResponseDto;
 import ru.fiarr4ik.supplierservice.dto.SupplierDto;
 import ru.fiarr4ik.supplierservice.entity.Supplier;
+import ru.fiarr4ik.supplierservice.event.SupplierChangedEvent;
+import ru.fiarr4ik.supplierservice.exception.BatchTooLargeException;
 import ru.fiarr4ik.supplierservice.exception.SupplierNotFoundException;
 import ru.fiarr4ik.supplierservice.exception.UniqueConstraintViolationException;
 import ru.fiarr4ik.supplierservice.repository.SupplierRepository;
 import ru.fiarr4ik.supplierservice.rest.PartClient;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class SupplierService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final SupplierRepository supplierRepository;
     private final SupplierMappingService supplierMappingService;
     private final PartClient partClient;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResilientCallService resilientCallService;
 
     @Autowired
-    public SupplierService(SupplierRepository supplierRepository, SupplierMappingService supplierMappingService, PartClient partClient) {
+    public SupplierService(SupplierRepository supplierRepository,
+                           SupplierMappingService supplierMappingService,
+                           PartClient partClient,
+                           EntityManager entityManager,
+                           ApplicationEventPublisher eventPublisher,
+                           ResilientCallService resilientCallService) {
         this.supplierRepository = supplierRepository;
         this.supplierMappingService = supplierMappingService;
         this.partClient = partClient;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.resilientCallService = resilientCallService;
     }
 
     /**
@@ -58,14 +88,71 @@ public class SupplierService {
     }
 
     /**
-     * Возвращает список всех поставщиков.
+     * Получает поставщиков по набору идентификаторов одним запросом к базе.
+     *
+     * @param ids идентификаторы поставщиков
+     * @return найденные поставщики по ID и список ID, для которых поставщик не найден
+     * @throws BatchTooLargeException если различных ID больше {@link #MAX_BATCH_SIZE}
+     */
+    public SupplierBatchResponseDto getSuppliersByIds(Collection<Long> ids) {
+        Set<Long> requestedIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new BatchTooLargeException("За один запрос можно получить не более " + MAX_BATCH_SIZE
+                    + " поставщиков, передано " + requestedIds.size());
+        }
+
+        Map<Long, SupplierDto> found = new LinkedHashMap<>();
+        if (!requestedIds.isEmpty()) {
+            for (Supplier supplier : supplierRepository.findAllBySupplierIdIn(requestedIds)) {
+                found.put(supplier.getSupplierId(), supplierMappingService.toDto(supplier));
+            }
+        }
+
+        Set<Long> missingIds = requestedIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new SupplierBatchResponseDto(found, missingIds);
+    }
+
+    /**
+     * Возвращает страницу поставщиков, упорядоченных по ID (keyset-пагинация).
      *
-     * @return список DTO поставщиков
+     * @param cursor ID последнего поставщика предыдущей страницы; null для первой страницы
+     * @param limit  размер страницы, ограничивается {@link #MAX_PAGE_SIZE}
+     * @return страница DTO поставщиков и курсор следующей страницы
      */
-    public List<SupplierDto> getAllSuppliers() {
-        return supplierRepository.findAll().stream()
+    public PageResponseDto<SupplierDto> getSuppliers(Long cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Supplier> suppliers = supplierRepository.findBySupplierIdGreaterThanOrderBySupplierIdAsc(
+                cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+
+        Long nextCursor = null;
+        if (suppliers.size() > pageSize) {
+            suppliers = suppliers.subList(0, pageSize);
+            nextCursor = suppliers.get(pageSize - 1).getSupplierId();
+        }
+
+        List<SupplierDto> items = suppliers.stream()
                 .map(supplierMappingService::toDto)
                 .collect(Collectors.toList());
+        return new PageResponseDto<>(items, nextCursor);
+    }
+
+    /**
+     * Выгружает всех поставщиков, читая их курсором из базы.
+     *
+     * @param consumer получатель DTO поставщиков в порядке возрастания ID
+     */
+    @Transactional(readOnly = true)
+    public void exportSuppliers(Consumer<SupplierDto> consumer) {
+        try (Stream<Supplier> suppliers = supplierRepository.streamAllByOrderBySupplierIdAsc()) {
+            suppliers.forEach(supplier -> {
+                entityManager.detach(supplier);
+                consumer.accept(supplierMappingService.toDto(supplier));
+            });
+        }
     }
 
     /**
@@ -89,6 +176,7 @@ public class SupplierService {
             supplierToUpdate.setPhone(supplierDto.getPhone());
             supplierToUpdate.setEmail(supplierDto.getEmail());
             Supplier savedSupplier = supplierRepository.save(supplierToUpdate);
+            eventPublisher.publishEvent(new SupplierChangedEvent(id));
             return supplierMappingService.toDto(savedSupplier);
         } else {
             throw new SupplierNotFoundException("Поставщик c id " + id + " не найден");
@@ -100,12 +188,13 @@ public class SupplierService {
             throw new SupplierNotFoundException("Поставщик c id " + supplierId + " не найден");
         }
 
-        boolean hasParts = partClient.existsBySupplierId(supplierId);
+        boolean hasParts = resilientCallService.call("part-service", () -> partClient.existsBySupplierId(supplierId));
         if (hasParts) {
             throw new IllegalStateException("Поставщик используется в запчастях и не может быть удалён");
         }
 
         supplierRepository.deleteById(supplierId);
+        eventPublisher.publishEvent(new SupplierChangedEvent(supplierId));
     }
 
     /**
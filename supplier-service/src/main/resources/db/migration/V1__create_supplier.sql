@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS supplier
+(
+    supplier_id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    contact_person VARCHAR(255),
+    phone          VARCHAR(255) UNIQUE,
+    email          VARCHAR(255) UNIQUE,
+    address        VARCHAR(255)
+);
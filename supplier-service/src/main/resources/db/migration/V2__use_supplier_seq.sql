@@ -0,0 +1,3 @@
+CREATE SEQUENCE IF NOT EXISTS supplier_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('supplier_seq', COALESCE((SELECT MAX(supplier_id) FROM supplier), 0) + 50, false);
+ALTER TABLE supplier ALTER COLUMN supplier_id DROP IDENTITY IF EXISTS;
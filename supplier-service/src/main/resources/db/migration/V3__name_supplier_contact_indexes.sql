@@ -0,0 +1,23 @@
+-- Уникальность телефона и email обеспечивается именованными уникальными индексами, объявленными в сущности Supplier.
+-- Прежние ограничения UNIQUE имели сгенерированные имена, поэтому удаляются по столбцам.
+DO
+$$
+    DECLARE
+        constraint_name TEXT;
+    BEGIN
+        FOR constraint_name IN
+            SELECT con.conname
+            FROM pg_constraint con
+                     JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+            WHERE con.conrelid = 'supplier'::regclass
+              AND con.contype = 'u'
+              AND cardinality(con.conkey) = 1
+              AND att.attname IN ('phone', 'email')
+            LOOP
+                EXECUTE format('ALTER TABLE supplier DROP CONSTRAINT %I', constraint_name);
+            END LOOP;
+    END
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_supplier_phone ON supplier (phone);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_supplier_email ON supplier (email);
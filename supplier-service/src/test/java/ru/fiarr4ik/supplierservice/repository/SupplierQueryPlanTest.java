@@ -0,0 +1,57 @@
+package ru.fiarr4ik.supplierservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверки занятости телефона и email при создании поставщика выполняются по уникальным индексам.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SupplierQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).table("supplier_schema_history").load().migrate();
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("INSERT INTO supplier (supplier_id, name, phone, email) "
+                + "SELECT i, 'Поставщик ' || i, '+7' || i, i || '@example.com' "
+                + "FROM generate_series(1, 100000) AS i");
+        jdbcTemplate.getJdbcTemplate().execute("VACUUM ANALYZE supplier");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "phone, +742, uk_supplier_phone",
+            "email, 42@example.com, uk_supplier_email"
+    })
+    void uniquenessCheckUsesIndex(String column, String value, String index) {
+        String query = column.equals("phone")
+                ? SupplierRepository.EXISTS_BY_PHONE
+                : SupplierRepository.EXISTS_BY_EMAIL;
+
+        String plan = String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN " + query, Map.of(column, value), String.class));
+
+        assertThat(plan).contains("Index Only Scan using " + index).doesNotContain("Seq Scan");
+    }
+
+}